@@ -0,0 +1,134 @@
+package com.example.blog_search_platform.load;
+
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.example.blog_search_platform.config.NoriAnalyzerConfig;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.repository.elasticsearch.PostBulkIndexer;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트에서 Elasticsearch 대신 사용하는 인메모리 검색 백엔드
+ * PostBulkIndexer와 PostSearchQueryRepository의 계약(외부 버전 검사, 키워드 검색과 페이징)을 그대로 따르므로,
+ * 애플리케이션의 색인/검색 경로(아웃박스, Kafka, 컨슈머, 검색 캐시)는 바꾸지 않고 실행됩니다.
+ * 문서는 반영 즉시 검색되므로, 측정한 지연에는 Elasticsearch의 refresh 주기(기본 1초)가 포함되지 않습니다.
+ */
+@TestConfiguration
+class InMemorySearchBackend {
+
+    private final Map<Long, PostDocument> documents = new ConcurrentHashMap<>();
+    // 문서가 삭제된 뒤에도 버전을 남겨, 늦게 도착한 이전 쓰기를 거부합니다. (Elasticsearch의 tombstone)
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final SearchableLagTracker lagTracker = new SearchableLagTracker();
+
+    @Bean
+    SearchableLagTracker searchableLagTracker() {
+        return lagTracker;
+    }
+
+    @Bean
+    @Primary
+    PostBulkIndexer inMemoryPostBulkIndexer() {
+        return new PostBulkIndexer(null, null) {
+            @Override
+            public BulkIndexResult bulk(String indexName, List<PostDocument> documentsToIndex, Map<Long, Long> deletions) {
+                int stale = 0;
+                for (PostDocument document : documentsToIndex) {
+                    if (!apply(document.getId(), document.getVersion(), document)) {
+                        stale++;
+                    }
+                }
+                for (Map.Entry<Long, Long> deletion : deletions.entrySet()) {
+                    if (!apply(deletion.getKey(), deletion.getValue(), null)) {
+                        stale++;
+                    }
+                }
+                return new BulkIndexResult(documentsToIndex.size() + deletions.size(), stale, List.of());
+            }
+        };
+    }
+
+    @Bean
+    @Primary
+    PostSearchQueryRepository inMemoryPostSearchQueryRepository() {
+        return new PostSearchQueryRepository(null) {
+            @Override
+            public SearchResponse<PostDocument> searchPage(String keyword, Pageable pageable, boolean fullBody) {
+                String term = keyword.toLowerCase(Locale.ROOT);
+                List<Hit<PostDocument>> matches = documents.values().stream()
+                        .map(document -> hit(document, score(document, term)))
+                        .filter(hit -> hit.score() > 0)
+                        .sorted(Comparator.comparing((Hit<PostDocument> hit) -> hit.score()).reversed()
+                                .thenComparing(hit -> hit.source().getId()))
+                        .toList();
+                List<Hit<PostDocument>> page = matches.stream()
+                        .skip(pageable.getOffset())
+                        .limit(pageable.getPageSize())
+                        .toList();
+                double maxScore = matches.isEmpty() ? 0 : matches.get(0).score();
+                return SearchResponse.<PostDocument>of(response -> response
+                        .took(0)
+                        .timedOut(false)
+                        .shards(shards -> shards.total(1).successful(1).failed(0))
+                        .hits(hits -> hits
+                                .hits(page)
+                                .total(total -> total.value(matches.size()).relation(TotalHitsRelation.Eq))
+                                .maxScore(maxScore)));
+            }
+        };
+    }
+
+    /**
+     * 외부 버전(version_type=external)과 같은 규칙으로 쓰기를 반영합니다. 저장된 버전 이하의 쓰기는 거부됩니다.
+     * @param document 색인할 문서 (null이면 삭제)
+     * @return 반영되었으면 true, 이전 버전이라 거부되었으면 false
+     */
+    private synchronized boolean apply(Long id, Long version, PostDocument document) {
+        Long current = versions.get(id);
+        if (version != null && current != null && version <= current) {
+            return false;
+        }
+        if (version != null) {
+            versions.put(id, version);
+        }
+        if (document == null) {
+            documents.remove(id);
+            lagTracker.applied(id, SearchableLagTracker.DELETED);
+        } else {
+            documents.put(id, document);
+            lagTracker.applied(id, version == null ? 0L : version);
+        }
+        return true;
+    }
+
+    private static double score(PostDocument document, String term) {
+        double score = 0;
+        if (document.getTitle() != null && document.getTitle().toLowerCase(Locale.ROOT).contains(term)) {
+            score += 2;
+        }
+        if (document.getContents() != null && document.getContents().toLowerCase(Locale.ROOT).contains(term)) {
+            score += 1;
+        }
+        return score;
+    }
+
+    private static Hit<PostDocument> hit(PostDocument document, double score) {
+        return Hit.<PostDocument>of(hit -> hit
+                .index(NoriAnalyzerConfig.ALIAS_NAME)
+                .id(String.valueOf(document.getId()))
+                .score(score)
+                .source(document));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.blog_search_platform.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트에서 측정한 지연 시간을 모아 백분위수와 히스토그램을 계산하는 클래스
+ * 측정값을 모두 보관하므로 부하 테스트 규모(수십만 건)에서만 사용합니다.
+ */
+class LatencyRecorder {
+
+    // 히스토그램 구간의 상한(ms). 마지막 구간은 그 이상 전부입니다.
+    private static final double[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private long[] values = new long[1024];
+    private int count;
+
+    synchronized void record(long nanos) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        values[count++] = Math.max(0, nanos);
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * 요약(건수, 평균, 백분위수, 최대)과 구간별 건수를 ms 단위로 반환합니다.
+     */
+    synchronized Map<String, Object> summary() {
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("meanMs", count == 0 ? 0 : toMillis((long) Arrays.stream(sorted).average().orElse(0)));
+        summary.put("p50Ms", percentile(sorted, 0.50));
+        summary.put("p90Ms", percentile(sorted, 0.90));
+        summary.put("p99Ms", percentile(sorted, 0.99));
+        summary.put("p999Ms", percentile(sorted, 0.999));
+        summary.put("maxMs", count == 0 ? 0 : toMillis(sorted[count - 1]));
+        summary.put("histogram", histogram(sorted));
+        return summary;
+    }
+
+    private static Map<String, Long> histogram(long[] sorted) {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        int index = 0;
+        for (double bound : BUCKET_BOUNDS_MS) {
+            long start = index;
+            while (index < sorted.length && toMillis(sorted[index]) <= bound) {
+                index++;
+            }
+            histogram.put("<=" + (long) bound + "ms", index - start);
+        }
+        histogram.put(">" + (long) BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1] + "ms", (long) (sorted.length - index));
+        return histogram;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
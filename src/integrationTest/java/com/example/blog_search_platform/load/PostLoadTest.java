@@ -0,0 +1,282 @@
+package com.example.blog_search_platform.load;
+
+import com.example.blog_search_platform.document.PostDocument;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 게시글 생성/수정/삭제와 검색 요청을 정해진 속도로 보내, 처리량과 지연 시간, 색인 반영 지연을 측정하는 부하 테스트
+ * docker-compose 없이 실행되도록 Kafka는 임베디드 브로커, DB는 H2, Elasticsearch는 인메모리 백엔드로 대체합니다.
+ * DB 스키마는 운영과 같이 Flyway 마이그레이션(db/migration/h2)으로 만듭니다.
+ * 요청은 응답을 기다리지 않고 정해진 시각마다 보내며(open-loop), 지연 시간은 예정된 시각부터 측정해 대기열 지연까지 포함합니다.
+ *
+ * 기본 빌드에서는 실행되지 않으며, 다음처럼 실행합니다. 결과는 build/reports/load/summary.json에 저장됩니다.
+ * ./gradlew loadTest -Dload.duration-seconds=60 -Dload.write-rate=200 -Dload.search-rate=500
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.search.index.auto-create=false",
+        "app.reconcile.enabled=false",
+        "app.kafka.topic.replicas=1",
+        // 리스너가 파티션을 할당받기 전에 발행된 이벤트도 처리하도록 처음부터 읽습니다.
+        "spring.kafka.consumer.auto-offset-reset=earliest"
+})
+@EmbeddedKafka(partitions = 6)
+@Import(InMemorySearchBackend.class)
+class PostLoadTest {
+
+    private static final List<String> KEYWORDS = List.of("자바", "스프링", "검색", "카프카", "색인", "성능");
+
+    private final long durationSeconds = Long.getLong("load.duration-seconds", 30);
+    private final int writeRate = Integer.getInteger("load.write-rate", 100);
+    private final int searchRate = Integer.getInteger("load.search-rate", 200);
+    private final int threads = Integer.getInteger("load.threads", 32);
+    private final double updateRatio = Double.parseDouble(System.getProperty("load.update-ratio", "0.4"));
+    private final double deleteRatio = Double.parseDouble(System.getProperty("load.delete-ratio", "0.1"));
+    private final Path reportPath = Path.of(System.getProperty("load.report", "build/reports/load/summary.json"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SearchableLagTracker lagTracker;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final List<Long> livePostIds = new ArrayList<>();
+    private final Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> statusCounts = new LinkedHashMap<>();
+    private final AtomicLong failures = new AtomicLong();
+
+    @Test
+    @DisplayName("정해진 속도의 쓰기/검색 부하에서 처리량, 지연 시간 분포, 색인 반영 지연을 측정한다.")
+    void runLoad() throws Exception {
+        for (String operation : List.of("create", "update", "delete", "search")) {
+            latencies.put(operation, new LatencyRecorder());
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        Thread writeDriver = new Thread(() -> drive(workers, writeRate, endNanos, this::write), "load-write-driver");
+        Thread searchDriver = new Thread(() -> drive(workers, searchRate, endNanos, this::search), "load-search-driver");
+        writeDriver.start();
+        searchDriver.start();
+        writeDriver.join();
+        searchDriver.join();
+        workers.shutdown();
+        assertThat(workers.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        // 모든 쓰기가 검색 가능해질 때까지 기다립니다.
+        await().atMost(1, TimeUnit.MINUTES).until(() -> lagTracker.getPendingCount() == 0);
+
+        Map<String, Object> report = report(elapsedSeconds);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+
+        assertThat(failures.get()).isZero();
+    }
+
+    /**
+     * 초당 rate번의 간격으로 예정된 시각에 작업을 제출합니다. 앞선 요청이 느려도 다음 요청의 예정 시각은 밀리지 않습니다.
+     */
+    private void drive(ExecutorService workers, int rate, long endNanos, Operation operation) {
+        if (rate <= 0) {
+            return;
+        }
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long scheduledNanos = System.nanoTime();
+        while (scheduledNanos < endNanos) {
+            long waitNanos = scheduledNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            long intended = scheduledNanos;
+            workers.execute(() -> {
+                try {
+                    operation.run(intended);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                }
+            });
+            scheduledNanos += intervalNanos;
+        }
+    }
+
+    private void write(long intendedNanos) throws Exception {
+        double dice = ThreadLocalRandom.current().nextDouble();
+        Long postId = dice < deleteRatio ? takeLivePost(true) : dice < deleteRatio + updateRatio ? takeLivePost(false) : null;
+        if (postId == null) {
+            create(intendedNanos);
+        } else if (dice < deleteRatio) {
+            delete(postId, intendedNanos);
+        } else {
+            update(postId, intendedNanos);
+        }
+    }
+
+    private void create(long intendedNanos) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("title", title(), "contents", contents()));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/posts"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)), "create", intendedNanos);
+        if (response.statusCode() == 201) {
+            JsonNode post = objectMapper.readTree(response.body());
+            long postId = post.get("id").asLong();
+            lagTracker.expect(postId, versionOf(post), intendedNanos);
+            synchronized (livePostIds) {
+                livePostIds.add(postId);
+            }
+        }
+    }
+
+    private void update(long postId, long intendedNanos) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("title", title()));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/posts/" + postId))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body)), "update", intendedNanos);
+        if (response.statusCode() == 200) {
+            lagTracker.expect(postId, versionOf(objectMapper.readTree(response.body())), intendedNanos);
+        }
+    }
+
+    private void delete(long postId, long intendedNanos) throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/posts/" + postId)).DELETE(), "delete", intendedNanos);
+        if (response.statusCode() == 204) {
+            lagTracker.expect(postId, SearchableLagTracker.DELETED, intendedNanos);
+        }
+    }
+
+    private void search(long intendedNanos) throws Exception {
+        String keyword = KEYWORDS.get(ThreadLocalRandom.current().nextInt(KEYWORDS.size()));
+        send(HttpRequest.newBuilder(uri("/api/posts/search?keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8))).GET(),
+                "search", intendedNanos);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request, String operation, long intendedNanos) throws Exception {
+        HttpResponse<String> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        latencies.get(operation).record(System.nanoTime() - intendedNanos);
+        synchronized (statusCounts) {
+            statusCounts.computeIfAbsent(operation + ":" + response.statusCode(), key -> new AtomicLong()).incrementAndGet();
+        }
+        // 동시에 수정/삭제된 게시글의 404는 부하 패턴에서 생기는 정상 응답입니다.
+        if (response.statusCode() >= 500) {
+            failures.incrementAndGet();
+        }
+        return response;
+    }
+
+    /**
+     * 수정/삭제할 게시글을 고릅니다. 삭제할 게시글은 목록에서 빼서, 이후의 요청이 고르지 않게 합니다.
+     * @return 게시글 ID (아직 생성된 게시글이 없으면 null)
+     */
+    private Long takeLivePost(boolean remove) {
+        synchronized (livePostIds) {
+            if (livePostIds.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(livePostIds.size());
+            Long postId = livePostIds.get(index);
+            if (remove) {
+                livePostIds.set(index, livePostIds.get(livePostIds.size() - 1));
+                livePostIds.remove(livePostIds.size() - 1);
+            }
+            return postId;
+        }
+    }
+
+    private Map<String, Object> report(double elapsedSeconds) {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        latencies.forEach((operation, recorder) -> {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("throughputPerSecond", Math.round(recorder.getCount() / elapsedSeconds * 10) / 10.0);
+            summary.put("latency", recorder.summary());
+            operations.put(operation, summary);
+        });
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("durationSeconds", durationSeconds);
+        settings.put("writeRate", writeRate);
+        settings.put("searchRate", searchRate);
+        settings.put("threads", threads);
+        settings.put("updateRatio", updateRatio);
+        settings.put("deleteRatio", deleteRatio);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("elapsedSeconds", Math.round(elapsedSeconds * 10) / 10.0);
+        report.put("operations", operations);
+        report.put("statusCounts", statusCounts);
+        report.put("failures", failures.get());
+        report.put("eventToSearchableLag", lagTracker.getLag().summary());
+        return report;
+    }
+
+    private long versionOf(JsonNode post) {
+        return PostDocument.versionOf(LocalDateTime.parse(post.get("updatedAt").asText()));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String title() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "부하 테스트 " + KEYWORDS.get(random.nextInt(KEYWORDS.size())) + " " + random.nextInt(1_000_000);
+    }
+
+    private static String contents() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            contents.append(KEYWORDS.get(random.nextInt(KEYWORDS.size()))).append(" 본문 문장입니다. ");
+        }
+        return contents.toString();
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(long intendedNanos) throws Exception;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.blog_search_platform.load;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쓰기 요청이 검색 가능해질 때까지 걸린 시간(event-to-searchable lag)을 측정하는 클래스
+ * 부하 생성기가 쓰기마다 (postId, 버전, 요청 시작 시각)을 등록하고, 인메모리 인덱스가 문서를 반영할 때마다 알려줍니다.
+ * 컨슈머가 같은 게시글의 이벤트를 합치면 중간 버전은 색인되지 않으므로, 더 높은 버전이 반영되면 이전 쓰기도 반영된 것으로 봅니다.
+ */
+class SearchableLagTracker {
+
+    // 삭제는 이후의 모든 버전보다 우선하므로 가장 높은 버전으로 취급합니다.
+    static final long DELETED = Long.MAX_VALUE;
+
+    private final Map<Long, Long> appliedVersions = new HashMap<>();
+    private final Map<Long, List<long[]>> pending = new HashMap<>();
+    private final LatencyRecorder lag = new LatencyRecorder();
+    private int pendingCount;
+
+    /**
+     * 쓰기 요청이 끝난 뒤 검색 가능해지기를 기다릴 버전을 등록합니다.
+     * @param postId 게시글 ID
+     * @param version 기다릴 외부 버전 (삭제는 DELETED)
+     * @param startNanos 쓰기 요청을 시작한 시각 (System.nanoTime)
+     */
+    synchronized void expect(long postId, long version, long startNanos) {
+        Long applied = appliedVersions.get(postId);
+        if (applied != null && applied >= version) {
+            // 응답을 받기 전에 이미 색인된 경우입니다.
+            lag.record(System.nanoTime() - startNanos);
+            return;
+        }
+        pending.computeIfAbsent(postId, id -> new ArrayList<>()).add(new long[]{version, startNanos});
+        pendingCount++;
+    }
+
+    /**
+     * 인메모리 인덱스에 문서가 반영될 때 호출됩니다.
+     */
+    synchronized void applied(long postId, long version) {
+        long now = System.nanoTime();
+        appliedVersions.merge(postId, version, Math::max);
+        List<long[]> waits = pending.get(postId);
+        if (waits == null) {
+            return;
+        }
+        for (Iterator<long[]> iterator = waits.iterator(); iterator.hasNext(); ) {
+            long[] wait = iterator.next();
+            if (wait[0] <= version) {
+                lag.record(now - wait[1]);
+                iterator.remove();
+                pendingCount--;
+            }
+        }
+        if (waits.isEmpty()) {
+            pending.remove(postId);
+        }
+    }
+
+    synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    LatencyRecorder getLag() {
+        return lag;
+    }
+}
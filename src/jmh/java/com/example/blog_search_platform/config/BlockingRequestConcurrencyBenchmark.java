@@ -0,0 +1,91 @@
+package com.example.blog_search_platform.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백엔드(Elasticsearch/MySQL) 응답을 기다리는 요청이 한꺼번에 몰렸을 때, 모두 처리하는 데 걸리는 시간을 측정합니다.
+ * platform은 Tomcat 기본 설정과 같은 200개 스레드 풀, virtual은 요청마다 가상 스레드를 만드는 방식입니다.
+ * 백엔드 호출은 연결 풀 크기(backendConnections)만큼만 동시에 처리되고, 각 호출은 backendLatencyMillis 동안 대기합니다.
+ * 연결 풀이 스레드 수보다 크면 가상 스레드가 더 많은 요청을 동시에 기다릴 수 있고, 작으면 연결 풀이 상한이 됩니다.
+ * virtual은 Java 21 이상에서만 실행됩니다. (./gradlew jmh -PjavaVersion=21 -PjmhIncludes=BlockingRequestConcurrency)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingRequestConcurrencyBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"50", "2000"})
+    private int backendConnections;
+
+    @Param({"2000"})
+    private int requests;
+
+    @Param({"20"})
+    private int backendLatencyMillis;
+
+    private Executor executor;
+    private Semaphore connectionPool;
+
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(threads)) {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("request-");
+            virtualExecutor.setVirtualThreads(true);
+            executor = virtualExecutor;
+        } else {
+            executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS, new CustomizableThreadFactory("request-"));
+        }
+        connectionPool = new Semaphore(backendConnections);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        } else if (executor instanceof SimpleAsyncTaskExecutor asyncTaskExecutor) {
+            asyncTaskExecutor.close();
+        }
+    }
+
+    @Benchmark
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    callBackend();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void callBackend() {
+        try {
+            connectionPool.acquire();
+            try {
+                Thread.sleep(backendLatencyMillis);
+            } finally {
+                connectionPool.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.blog_search_platform.dto;
+
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.JsonPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이(인코딩)와 컨슈머(디코딩)가 이벤트마다 실행하는 PostEvent 변환 비용을 형식(json/binary)별로 측정합니다.
+ * 스냅샷이 없는 이벤트(thin)와 본문이 포함된 이벤트(fat)를 나누어, 본문 크기가 미치는 영향을 함께 봅니다.
+ * 이벤트 하나의 인코딩 크기는 serialize 결과에 보조 지표(serialize:encodedBytes, bytes/event)로 함께 기록됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostEventSerializationBenchmark {
+
+    @Param({"json", "binary"})
+    private String encoding;
+
+    @Param({"0", "1000", "10000"})
+    private int contentsLength;
+
+    private PostEventCodec codec;
+    private PostEvent event;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        // JSON은 애플리케이션과 같은 기본 설정(JavaTimeModule 등)을 사용합니다.
+        codec = "binary".equals(encoding)
+                ? new BinaryPostEventCodec()
+                : new JsonPostEventCodec(Jackson2ObjectMapperBuilder.json().build());
+        event = contentsLength == 0
+                ? new PostEvent(1L, PostEvent.EventType.UPDATED)
+                : new PostEvent(1L, PostEvent.EventType.UPDATED, "벤치마크 제목", "가".repeat(contentsLength), LocalDateTime.now());
+        payload = codec.encode(event);
+    }
+
+    /**
+     * 이벤트 하나의 인코딩 크기를 결과(JSON)에 남기기 위한 보조 지표
+     * EVENTS 지표는 스레드끼리 합산되므로, 벤치마크를 한 스레드로 실행할 때만 이벤트당 크기가 됩니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long encodedBytes;
+    }
+
+    @Benchmark
+    public byte[] serialize(EncodedSize size) {
+        byte[] encoded = codec.encode(event);
+        size.encodedBytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public PostEvent deserialize() {
+        return codec.decode(payload);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.blog_search_platform.dto;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 색인(PostDocument.from)과 검색 응답(PostSearchResponse.from)에서 문서마다 실행하는 객체 변환 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostMappingBenchmark {
+
+    private Post post;
+    private PostEvent snapshotEvent;
+    private Hit<PostDocument> hit;
+
+    @Setup
+    public void setUp() {
+        String contents = "검색 플랫폼 벤치마크 본문입니다. ".repeat(50);
+        post = Post.builder().title("벤치마크 제목").contents(contents).build();
+        snapshotEvent = new PostEvent(1L, PostEvent.EventType.UPDATED, "벤치마크 제목", contents, LocalDateTime.now());
+        PostDocument document = PostDocument.from(snapshotEvent);
+        hit = Hit.<PostDocument>of(h -> h
+                .index("posts")
+                .id("1")
+                .score(1.0)
+                .sort(FieldValue.of(1.0), FieldValue.of(1L))
+                .highlight(Map.of(PostSearchQueryRepository.SNIPPET_FIELD, List.of("<em>검색</em> 플랫폼 벤치마크 본문입니다.")))
+                .source(document));
+    }
+
+    @Benchmark
+    public PostDocument documentFromPost() {
+        return PostDocument.from(post);
+    }
+
+    @Benchmark
+    public PostDocument documentFromSnapshotEvent() {
+        return PostDocument.from(snapshotEvent);
+    }
+
+    @Benchmark
+    public PostSearchResponse searchResponseFromHit() {
+        return PostSearchResponse.from(hit);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.JsonPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.dto.PostEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostKafkaConsumer가 poll 한 번마다 실행하는 배치 조립(디코딩 + 같은 게시글 이벤트 합치기) 비용을 메시지 형식(json/binary)별로 측정합니다.
+ * distinctPosts가 작을수록 같은 게시글의 이벤트가 많이 몰린 배치입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostEventBatchBenchmark {
+
+    @Param({"json", "binary"})
+    private String encoding;
+
+    @Param({"500"})
+    private int batchSize;
+
+    @Param({"50", "500"})
+    private int distinctPosts;
+
+    private PostEventCodec codec;
+    private PostEventCoalescer postEventCoalescer;
+    private List<byte[]> messages;
+
+    @Setup
+    public void setUp() {
+        codec = "binary".equals(encoding)
+                ? new BinaryPostEventCodec()
+                : new JsonPostEventCodec(Jackson2ObjectMapperBuilder.json().build());
+        postEventCoalescer = new PostEventCoalescer();
+        messages = new ArrayList<>(batchSize);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < batchSize; i++) {
+            long postId = random.nextLong(distinctPosts) + 1;
+            PostEvent event = new PostEvent(postId, PostEvent.EventType.UPDATED, "제목 " + postId, "본문 ".repeat(200), LocalDateTime.now());
+            messages.add(codec.encode(event));
+        }
+    }
+
+    @Benchmark
+    public List<PostEvent> assembleBatch() {
+        List<PostEvent> events = new ArrayList<>(messages.size());
+        for (byte[] message : messages) {
+            events.add(codec.decode(message));
+        }
+        return postEventCoalescer.coalesce(events);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.blog_search_platform.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 요청이 Elasticsearch에 닿기 전에 거치는 계층(캐시 키 생성, 결과 캐시, 중복 요청 합치기)의 비용을 측정합니다.
+ * 캐시 적중 경로가 Elasticsearch 호출보다 충분히 싸게 유지되는지, 여러 스레드에서 경합이 생기지 않는지 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchCacheBenchmark {
+
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+    private static final List<String> RESULT = List.of("result");
+
+    private PostSearchCache postSearchCache;
+    private SearchSingleFlight searchSingleFlight;
+    private String cachedKey;
+
+    @Setup
+    public void setUp() {
+        postSearchCache = new PostSearchCache(10_000, Duration.ofMinutes(5), Duration.ofSeconds(1), Duration.ofSeconds(1));
+        searchSingleFlight = new SearchSingleFlight(Duration.ofSeconds(3));
+        cachedKey = PostSearchCache.keyOf("page", "엘라스틱 서치", PAGEABLE);
+        postSearchCache.get(cachedKey, () -> RESULT);
+    }
+
+    @Benchmark
+    public String keyOf() {
+        return PostSearchCache.keyOf("page", "  엘라스틱   서치 ", PAGEABLE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<String> cacheHit() {
+        return postSearchCache.get(cachedKey, () -> RESULT);
+    }
+
+    @Benchmark
+    public List<String> singleFlightUncontended() {
+        return searchSingleFlight.execute(cachedKey, () -> RESULT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<String> singleFlightContended() {
+        return searchSingleFlight.execute(cachedKey, () -> RESULT);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.blog_search_platform.codec;
+
+import com.example.blog_search_platform.dto.PostEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * PostEvent를 고정된 스키마의 바이너리 형식으로 변환하는 코덱
+ * 필드 이름을 매번 싣는 JSON과 달리 필드 순서가 스키마로 정해져 있고, 숫자는 가변 길이(varint)로 씁니다.
+ *
+ * <pre>
+ * [0] MAGIC (0xB1)       JSON 메시지('{')와 구분하기 위한 값
+ * [1] 형식 버전 (1)        필드를 추가하면 버전을 올리고, 디코더는 이전 버전도 계속 읽습니다.
+ * [2] 이벤트 타입          0: 없음, 1: CREATED, 2: UPDATED, 3: DELETED
+ * [3] 필드 플래그          값이 있는 선택 필드의 비트 (POST_ID, UPDATED_AT, VERSION, TITLE, CONTENTS)
+ * postId                varlong
+ * updatedAt             epoch 초(UTC로 간주) varlong + 나노초 varint
+ * version               varlong
+ * title, contents       UTF-8 바이트 수 varint + UTF-8 바이트
+ * </pre>
+ */
+public class BinaryPostEventCodec implements PostEventCodec {
+
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 4;
+    private static final int POST_ID = 1;
+    private static final int UPDATED_AT = 1 << 1;
+    private static final int VERSION = 1 << 2;
+    private static final int TITLE = 1 << 3;
+    private static final int CONTENTS = 1 << 4;
+
+    /**
+     * 메시지가 이 코덱의 형식인지 첫 바이트로 확인합니다.
+     */
+    public static boolean isBinary(byte[] payload) {
+        return payload != null && payload.length > 0 && payload[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] encode(PostEvent event) {
+        byte[] title = event.getTitle() != null ? event.getTitle().getBytes(StandardCharsets.UTF_8) : null;
+        byte[] contents = event.getContents() != null ? event.getContents().getBytes(StandardCharsets.UTF_8) : null;
+        // varlong은 최대 10바이트, varint는 최대 5바이트입니다.
+        Writer writer = new Writer(HEADER_SIZE + 10 + 15 + 10
+                + (title != null ? 5 + title.length : 0)
+                + (contents != null ? 5 + contents.length : 0));
+
+        int flags = (event.getPostId() != null ? POST_ID : 0)
+                | (event.getUpdatedAt() != null ? UPDATED_AT : 0)
+                | (event.getVersion() != null ? VERSION : 0)
+                | (title != null ? TITLE : 0)
+                | (contents != null ? CONTENTS : 0);
+        writer.writeByte(MAGIC);
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeByte(eventTypeCode(event.getEventType()));
+        writer.writeByte(flags);
+
+        if (event.getPostId() != null) {
+            writer.writeVarLong(event.getPostId());
+        }
+        if (event.getUpdatedAt() != null) {
+            writer.writeVarLong(event.getUpdatedAt().toEpochSecond(ZoneOffset.UTC));
+            writer.writeVarLong(event.getUpdatedAt().getNano());
+        }
+        if (event.getVersion() != null) {
+            writer.writeVarLong(event.getVersion());
+        }
+        if (title != null) {
+            writer.writeBytes(title);
+        }
+        if (contents != null) {
+            writer.writeBytes(contents);
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public PostEvent decode(byte[] payload) {
+        if (!isBinary(payload) || payload.length < HEADER_SIZE) {
+            throw new IllegalArgumentException("Not a binary PostEvent");
+        }
+        if (payload[1] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary PostEvent version: " + payload[1]);
+        }
+        PostEvent.EventType eventType = eventTypeOf(payload[2]);
+        int flags = payload[3];
+
+        Reader reader = new Reader(payload, HEADER_SIZE);
+        Long postId = (flags & POST_ID) != 0 ? reader.readVarLong() : null;
+        LocalDateTime updatedAt = null;
+        if ((flags & UPDATED_AT) != 0) {
+            long epochSecond = reader.readVarLong();
+            int nano = (int) reader.readVarLong();
+            updatedAt = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+        Long version = (flags & VERSION) != 0 ? reader.readVarLong() : null;
+        String title = (flags & TITLE) != 0 ? reader.readString() : null;
+        String contents = (flags & CONTENTS) != 0 ? reader.readString() : null;
+        return new PostEvent(postId, eventType, title, contents, updatedAt, version);
+    }
+
+    private static int eventTypeCode(PostEvent.EventType eventType) {
+        if (eventType == null) {
+            return 0;
+        }
+        return switch (eventType) {
+            case CREATED -> 1;
+            case UPDATED -> 2;
+            case DELETED -> 3;
+        };
+    }
+
+    private static PostEvent.EventType eventTypeOf(byte code) {
+        return switch (code) {
+            case 0 -> null;
+            case 1 -> PostEvent.EventType.CREATED;
+            case 2 -> PostEvent.EventType.UPDATED;
+            case 3 -> PostEvent.EventType.DELETED;
+            default -> throw new IllegalArgumentException("Unknown PostEvent type code: " + code);
+        };
+    }
+
+    private static final class Writer {
+        private final byte[] buffer;
+        private int position;
+
+        private Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        private void writeByte(int value) {
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        private Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= buffer.length) {
+                    throw new IllegalArgumentException("Truncated binary PostEvent");
+                }
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in binary PostEvent");
+        }
+
+        private String readString() {
+            long length = readVarLong();
+            if (length < 0 || length > buffer.length - position) {
+                throw new IllegalArgumentException("Truncated binary PostEvent");
+            }
+            String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.blog_search_platform.codec;
+
+import com.example.blog_search_platform.dto.PostEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 설정한 형식으로 인코딩하고, 메시지의 첫 바이트로 형식을 구분해서 디코딩하는 코덱
+ * 바이너리 형식이 아닌 메시지는 기존 JSON 형식으로 읽습니다.
+ */
+@RequiredArgsConstructor
+public class DelegatingPostEventCodec implements PostEventCodec {
+
+    private final PostEventCodec encoder;
+    private final BinaryPostEventCodec binaryCodec;
+    private final JsonPostEventCodec jsonCodec;
+
+    @Override
+    public byte[] encode(PostEvent event) {
+        return encoder.encode(event);
+    }
+
+    @Override
+    public PostEvent decode(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            throw new IllegalArgumentException("Empty PostEvent payload");
+        }
+        return BinaryPostEventCodec.isBinary(payload) ? binaryCodec.decode(payload) : jsonCodec.decode(payload);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.blog_search_platform.codec;
+
+import com.example.blog_search_platform.dto.PostEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * PostEvent를 JSON으로 변환하는 기존 형식의 코덱
+ * 바이너리 형식 이전에 발행된 메시지와, 형식을 바꾸기 전의 인스턴스가 발행하는 메시지를 읽는 데 사용합니다.
+ */
+@RequiredArgsConstructor
+public class JsonPostEventCodec implements PostEventCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte[] encode(PostEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize PostEvent to JSON: postId=" + event.getPostId(), e);
+        }
+    }
+
+    @Override
+    public PostEvent decode(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, PostEvent.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed JSON PostEvent", e);
+        }
+    }
+}
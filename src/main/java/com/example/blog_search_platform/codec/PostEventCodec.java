@@ -0,0 +1,24 @@
+package com.example.blog_search_platform.codec;
+
+import com.example.blog_search_platform.dto.PostEvent;
+
+/**
+ * PostEvent를 Kafka 메시지 값(byte[])으로 변환하고 되돌리는 인터페이스
+ * 발행하는 쪽은 설정한 형식(app.kafka.event-encoding)으로 인코딩하고,
+ * 받는 쪽은 메시지 앞부분으로 형식을 구분하므로 형식을 바꾸는 중에도 이전 형식의 메시지를 계속 읽을 수 있습니다.
+ */
+public interface PostEventCodec {
+
+    /**
+     * @param event 인코딩할 이벤트
+     * @return Kafka 메시지 값
+     */
+    byte[] encode(PostEvent event);
+
+    /**
+     * @param payload Kafka 메시지 값
+     * @return 디코딩한 이벤트
+     * @throws IllegalArgumentException 형식이 잘못되었거나 지원하지 않는 버전의 메시지인 경우
+     */
+    PostEvent decode(byte[] payload);
+}
@@ -1,11 +1,17 @@
 package com.example.blog_search_platform.config;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.transport.ElasticsearchTransport;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchConfiguration;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 
+import java.time.Duration;
+
 /**
  * Elasticsearch 연결 및 Repository 설정을 위한 클래스
  */
@@ -16,15 +22,47 @@ public class ElasticsearchConfig extends ElasticsearchConfiguration {
     @Value("${spring.elasticsearch.uris}")
     private String elasticsearchUris;
 
+    @Value("${app.elasticsearch.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${app.elasticsearch.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${app.elasticsearch.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${app.elasticsearch.socket-timeout:5s}")
+    private Duration socketTimeout;
+
     /**
      * Elasticsearch 클라이언트 구성을 정의합니다.
      * application.properties 파일의 'spring.elasticsearch.uris' 값을 사용하여 연결 설정을 구성합니다.
+     * 가상 스레드 모드에서는 동시에 대기하는 요청 수가 스레드 수로 제한되지 않으므로,
+     * 연결 수 상한으로 Elasticsearch에 동시에 보내는 요청 수를 제한합니다. (초과한 요청은 클라이언트 안에서 대기합니다.)
+     * 응답 대기 시간(socket-timeout)은 _bulk와 재색인 요청에도 적용되므로, 검색별 제한 시간(app.search.timeout)보다 길게 둡니다.
      * @return ClientConfiguration 객체
      */
     @Override
     public ClientConfiguration clientConfiguration() {
         return ClientConfiguration.builder()
                 .connectedTo(elasticsearchUris)
+                .withConnectTimeout(connectTimeout)
+                .withSocketTimeout(socketTimeout)
+                .withClientConfigurer(ElasticsearchClients.ElasticsearchHttpClientConfigurationCallback.from(
+                        httpClientBuilder -> httpClientBuilder
+                                .setMaxConnTotal(maxConnections)
+                                .setMaxConnPerRoute(maxConnectionsPerRoute)))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 응답을 기다리는 동안 스레드를 점유하지 않는 비동기 Elasticsearch 클라이언트
+     * 동기 클라이언트와 같은 transport(연결 풀)를 공유하므로, 연결 수 상한도 함께 적용됩니다.
+     * @param elasticsearchTransport ElasticsearchConfiguration이 등록한 transport
+     * @return ElasticsearchAsyncClient 객체
+     */
+    @Bean
+    public ElasticsearchAsyncClient elasticsearchAsyncClient(ElasticsearchTransport elasticsearchTransport) {
+        return new ElasticsearchAsyncClient(elasticsearchTransport);
+    }
+}
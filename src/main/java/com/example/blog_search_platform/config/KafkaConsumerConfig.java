@@ -0,0 +1,29 @@
+package com.example.blog_search_platform.config;
+
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * 기본(배치) 리스너 외에 추가로 필요한 Kafka 리스너 설정 클래스
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * 레코드 단위 리스너 컨테이너 팩토리
+     * 재시도 토픽(@RetryableTopic)은 배치 리스너를 지원하지 않으므로, 재시도 경로에서는 이 팩토리를 사용합니다.
+     * spring.kafka.* 설정은 기본 팩토리와 동일하게 적용되고, 배치 모드만 끕니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> recordKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(false);
+        return factory;
+    }
+}
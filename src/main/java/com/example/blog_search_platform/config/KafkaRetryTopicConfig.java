@@ -0,0 +1,38 @@
+package com.example.blog_search_platform.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.retrytopic.RetryTopicComponentFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.RetryTopicNamesProviderFactory;
+import org.springframework.kafka.retrytopic.SuffixingRetryTopicNamesProviderFactory.SuffixingRetryTopicNamesProvider;
+
+/**
+ * 재시도 토픽(@RetryableTopic)의 토픽 이름 규칙을 정하는 설정 클래스
+ * 마지막 단계의 DLT는 접미사 규칙 대신 post-events.DLT 하나로 모아,
+ * 메인 리스너가 직접 보내는 재시도 불가 이벤트와 같은 곳에서 관리하고 재처리할 수 있게 합니다.
+ */
+@EnableKafka
+@Configuration
+public class KafkaRetryTopicConfig extends RetryTopicConfigurationSupport {
+
+    @Override
+    protected RetryTopicComponentFactory createComponentFactory() {
+        return new RetryTopicComponentFactory() {
+            @Override
+            public RetryTopicNamesProviderFactory retryTopicNamesProviderFactory() {
+                return properties -> {
+                    if (properties.isDltTopic()) {
+                        return new SuffixingRetryTopicNamesProvider(properties) {
+                            @Override
+                            public String getTopicName(String topic) {
+                                return KafkaTopicConfig.POST_EVENTS_DLT;
+                            }
+                        };
+                    }
+                    return new SuffixingRetryTopicNamesProvider(properties);
+                };
+            }
+        };
+    }
+}
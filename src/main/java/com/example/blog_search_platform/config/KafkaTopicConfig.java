@@ -0,0 +1,37 @@
+package com.example.blog_search_platform.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 애플리케이션이 사용하는 Kafka 토픽을 선언하는 설정 클래스
+ * 토픽이 없으면 KafkaAdmin이 애플리케이션 시작 시 생성합니다.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    // 게시글 변경 이벤트 토픽
+    public static final String POST_EVENTS = "post-events";
+    // 색인에 실패한 이벤트를 지연 재시도하는 토픽 (post-events.retry-0, -1, ... 단계가 뒤따릅니다)
+    public static final String POST_EVENTS_RETRY = "post-events.retry";
+    // 첫 번째 지연 재시도 토픽. 메인 리스너는 재시도 토픽의 입구(post-events.retry) 대신 이곳으로 보내 첫 재시도도 지연되게 합니다.
+    public static final String POST_EVENTS_RETRY_FIRST_DELAY = POST_EVENTS_RETRY + "-0";
+    // 재시도를 모두 소진했거나 재시도할 수 없는 이벤트가 모이는 토픽
+    public static final String POST_EVENTS_DLT = "post-events.DLT";
+
+    /**
+     * 게시글 변경 이벤트 토픽
+     * 파티션 수는 리스너 동시성(spring.kafka.listener.concurrency)의 상한이 되므로 그 이상으로 설정합니다.
+     */
+    @Bean
+    public NewTopic postEventsTopic(@Value("${app.kafka.topic.partitions:6}") int partitions,
+                                    @Value("${app.kafka.topic.replicas:1}") int replicas) {
+        return TopicBuilder.name(POST_EVENTS)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
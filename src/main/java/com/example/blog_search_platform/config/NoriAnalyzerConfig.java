@@ -1,51 +1,161 @@
 package com.example.blog_search_platform.config;
 
 import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.service.PostReindexService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
 import org.springframework.data.elasticsearch.core.index.Settings;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 
+import java.util.Map;
+
 /**
  * 'posts' 인덱스에 Nori 형태소 분석기를 적용하기 위한 설정 클래스
+ * 'posts'는 실제 인덱스(posts_v1, posts_v2, ...)를 가리키는 별칭(alias)이며,
+ * 재색인 시에는 새 버전의 인덱스를 만든 뒤 별칭만 원자적으로 교체합니다.
+ * Elasticsearch 없이 실행하는 부하 테스트 등에서는 app.search.index.auto-create=false로 시작 시 인덱스 생성을 끕니다.
+ *
+ * 매핑은 인덱스를 만들 때만 적용되므로, 이미 있는 인덱스에는 PostDocument에 새로 추가한 필드가 없습니다.
+ * 시작 시 필수 필드(title.autocomplete)가 없으면 시작을 중단하며, app.search.index.reindex-on-outdated-mapping=true인
+ * 인스턴스는 대신 시작을 마친 뒤 재색인을 실행해 현재 매핑의 새 인덱스로 별칭을 옮깁니다.
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.search.index.auto-create", havingValue = "true", matchIfMissing = true)
 public class NoriAnalyzerConfig {
 
+    public static final String ALIAS_NAME = "posts";
+    private static final String FIRST_INDEX_NAME = versionedIndexName(1);
+    // 기존 인덱스에 이 필드가 없으면 자동완성이 오류 없이 빈 결과만 반환하므로, 시작 시 확인합니다.
+    private static final String[] REQUIRED_FIELD_PATH = {"properties", "title", "fields", "autocomplete"};
+
     private final ElasticsearchOperations elasticsearchOperations;
-    private static final String INDEX_NAME = "posts";
+    private final PostReindexService postReindexService;
+
+    // true이면 매핑이 오래된 인덱스를 발견했을 때 시작을 중단하지 않고, 시작을 마친 뒤 재색인을 실행합니다.
+    // 재색인 작업은 인스턴스마다 따로 실행되므로, 배포 중 한 인스턴스에만 설정합니다.
+    @Value("${app.search.index.reindex-on-outdated-mapping:false}")
+    private boolean reindexOnOutdatedMapping;
+
+    private volatile boolean outdatedMapping;
 
     /**
-     * 애플리케이션 시작 시, 'posts' 인덱스가 존재하지 않으면
-     * nori 분석기 설정을 포함하여 새로 생성합니다.
+     * 애플리케이션 시작 시, 'posts' 별칭(또는 인덱스)이 존재하지 않으면
+     * nori 분석기 설정을 포함한 posts_v1 인덱스를 만들고 'posts' 별칭을 연결합니다.
+     * 이미 있으면 현재 매핑에 필수 필드가 있는지 확인합니다.
+     * @throws IllegalStateException 기존 인덱스의 매핑이 오래되었고, 재색인으로 대신하도록 설정하지 않은 경우
      */
     @PostConstruct
     public void configureNoriAnalyzer() {
-        IndexOperations indexOperations = elasticsearchOperations.indexOps(IndexCoordinates.of(INDEX_NAME));
-
-        if (!indexOperations.exists()) {
-            // 1. 분석기(Analyzer)와 토크나이저(Tokenizer) 설정을 포함하는 Settings 객체 생성
-            Settings settings = new Settings();
-
-            // -- 분석기 정의 (Analyzer Definition) --
-            // 'nori_analyzer_custom'라는 이름의 커스텀 분석기를 정의합니다.
-            settings.put("index.analysis.analyzer.nori_analyzer_custom.type", "custom");
-            // 이 분석기는 'nori_tokenizer'라는 내장 토크나이저를 사용하도록 설정합니다.
-            // 'nori' 플러그인이 제공하는 기본 토크나이저 이름입니다.
-            settings.put("index.analysis.analyzer.nori_analyzer_custom.tokenizer", "nori_tokenizer");
-            // 토큰 필터를 설정합니다. (소문자 변환, 동의어/활용형 처리 등)
-            settings.put("index.analysis.analyzer.nori_analyzer_custom.filter", new String[]{"lowercase", "nori_readingform"});
-
-            // 2. 정의된 설정으로 인덱스 생성
-            indexOperations.create(settings);
-
-            // 3. PostDocument 클래스를 기반으로 매핑 정보 적용
-            // 이 과정을 통해 @Field(analyzer = "nori_analyzer_custom") 설정이 인덱스에 반영됩니다.
-            indexOperations.putMapping(indexOperations.createMapping(PostDocument.class));
+        IndexOperations aliasOperations = elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS_NAME));
+
+        if (!aliasOperations.exists()) {
+            createIndex(elasticsearchOperations, FIRST_INDEX_NAME, indexSettings());
+            aliasOperations.alias(new AliasActions(new AliasAction.Add(AliasActionParameters.builder()
+                    .withIndices(FIRST_INDEX_NAME)
+                    .withAliases(ALIAS_NAME)
+                    .build())));
+            return;
+        }
+        if (hasField(aliasOperations.getMapping(), REQUIRED_FIELD_PATH)) {
+            return;
+        }
+        if (!reindexOnOutdatedMapping) {
+            throw new IllegalStateException("'" + ALIAS_NAME + "' 인덱스에 title.autocomplete 매핑이 없습니다. "
+                    + "한 인스턴스를 app.search.index.reindex-on-outdated-mapping=true로 시작해 재색인을 실행한 뒤 배포하세요.");
+        }
+        log.warn("Index '{}' is missing the title.autocomplete mapping; a reindex will start once the application is ready", ALIAS_NAME);
+        outdatedMapping = true;
+    }
+
+    /**
+     * 시작 시 매핑이 오래된 인덱스를 발견했으면 재색인을 시작합니다.
+     * Kafka 컨슈머 등 재색인에 필요한 빈이 모두 준비된 뒤에 실행하며, 재색인이 끝나 별칭이 옮겨질 때까지 자동완성은 빈 목록을 반환합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOutdatedMapping() {
+        if (outdatedMapping) {
+            postReindexService.start();
+        }
+    }
+
+    /**
+     * 버전 번호에 해당하는 실제 인덱스 이름을 반환합니다. (e.g., posts_v3)
+     */
+    public static String versionedIndexName(int version) {
+        return ALIAS_NAME + "_v" + version;
+    }
+
+    /**
+     * 게시글 인덱스의 분석기 설정을 생성합니다.
+     * 분석기나 매핑을 바꿀 때는 이 설정을 수정한 뒤 재색인(POST /api/admin/reindex)을 실행합니다.
+     * @return 인덱스 생성에 사용할 Settings 객체
+     */
+    public static Settings indexSettings() {
+        // 1. 분석기(Analyzer)와 토크나이저(Tokenizer) 설정을 포함하는 Settings 객체 생성
+        Settings settings = new Settings();
+
+        // -- 분석기 정의 (Analyzer Definition) --
+        // 'nori_analyzer_custom'라는 이름의 커스텀 분석기를 정의합니다.
+        settings.put("index.analysis.analyzer.nori_analyzer_custom.type", "custom");
+        // 이 분석기는 'nori_tokenizer'라는 내장 토크나이저를 사용하도록 설정합니다.
+        // 'nori' 플러그인이 제공하는 기본 토크나이저 이름입니다.
+        settings.put("index.analysis.analyzer.nori_analyzer_custom.tokenizer", "nori_tokenizer");
+        // 토큰 필터를 설정합니다. (소문자 변환, 동의어/활용형 처리 등)
+        settings.put("index.analysis.analyzer.nori_analyzer_custom.filter", new String[]{"lowercase", "nori_readingform"});
+
+        // -- 자동완성 분석기 정의 (title.autocomplete 서브 필드) --
+        // 색인 시에는 제목의 각 단어를 앞에서부터 자른 조각(e.g., 스, 스프, 스프링)으로 저장하고,
+        // 검색 시에는 입력한 접두어를 자르지 않고 그대로 찾으므로 prefix 쿼리 없이 단순 match로 자동완성이 됩니다.
+        settings.put("index.analysis.filter.autocomplete_edge_ngram.type", "edge_ngram");
+        settings.put("index.analysis.filter.autocomplete_edge_ngram.min_gram", 1);
+        settings.put("index.analysis.filter.autocomplete_edge_ngram.max_gram", 20);
+        settings.put("index.analysis.analyzer.autocomplete_index.type", "custom");
+        settings.put("index.analysis.analyzer.autocomplete_index.tokenizer", "standard");
+        settings.put("index.analysis.analyzer.autocomplete_index.filter", new String[]{"lowercase", "autocomplete_edge_ngram"});
+        settings.put("index.analysis.analyzer.autocomplete_search.type", "custom");
+        settings.put("index.analysis.analyzer.autocomplete_search.tokenizer", "standard");
+        settings.put("index.analysis.analyzer.autocomplete_search.filter", new String[]{"lowercase"});
+
+        // -- 삭제 기록(tombstone) 보관 기간 --
+        // 외부 버전으로 삭제된 문서의 버전 정보를 보관하는 기간입니다. (기본값 60s)
+        // 이 기간 안에 늦게 도착한 이전 색인 요청은 버전 충돌로 거부됩니다.
+        settings.put("index.gc_deletes", "1h");
+        return settings;
+    }
+
+    private static boolean hasField(Map<String, Object> mapping, String... path) {
+        Object node = mapping;
+        for (String key : path) {
+            if (!(node instanceof Map<?, ?> properties)) {
+                return false;
+            }
+            node = properties.get(key);
         }
+        return node != null;
+    }
+
+    /**
+     * 주어진 설정으로 인덱스를 만들고, PostDocument 클래스를 기반으로 매핑 정보를 적용합니다.
+     * 이 과정을 통해 @Field(analyzer = "nori_analyzer_custom") 설정이 인덱스에 반영됩니다.
+     * @param elasticsearchOperations Elasticsearch 작업 객체
+     * @param indexName 생성할 실제 인덱스 이름
+     * @param settings 인덱스 설정
+     */
+    public static void createIndex(ElasticsearchOperations elasticsearchOperations, String indexName, Settings settings) {
+        IndexOperations indexOperations = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+        indexOperations.create(settings, indexOperations.createMapping(PostDocument.class));
     }
 }
@@ -0,0 +1,37 @@
+package com.example.blog_search_platform.config;
+
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.DelegatingPostEventCodec;
+import com.example.blog_search_platform.codec.JsonPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * post-events 토픽 메시지의 인코딩 형식을 설정하는 클래스
+ */
+@Configuration
+public class PostEventCodecConfig {
+
+    /**
+     * app.kafka.event-encoding(binary 또는 json, 기본값 json) 형식으로 발행하고, 읽을 때는 두 형식을 모두 지원하는 코덱
+     * 이전 버전의 컨슈머가 남아 있는 동안에는 binary 메시지를 읽지 못하므로, binary 발행은 모든 인스턴스를 배포한 뒤에 켭니다.
+     * @param objectMapper JSON 형식에 사용할 ObjectMapper
+     * @param encoding 발행할 형식
+     * @return PostEventCodec 객체
+     */
+    @Bean
+    public PostEventCodec postEventCodec(ObjectMapper objectMapper,
+                                         @Value("${app.kafka.event-encoding:json}") String encoding) {
+        BinaryPostEventCodec binaryCodec = new BinaryPostEventCodec();
+        JsonPostEventCodec jsonCodec = new JsonPostEventCodec(objectMapper);
+        PostEventCodec encoder = switch (encoding.toLowerCase()) {
+            case "binary" -> binaryCodec;
+            case "json" -> jsonCodec;
+            default -> throw new IllegalArgumentException("Unsupported app.kafka.event-encoding: " + encoding);
+        };
+        return new DelegatingPostEventCodec(encoder, binaryCodec, jsonCodec);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.blog_search_platform.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 아웃박스 릴레이 등 백그라운드 작업을 위한 스케줄링 설정 클래스
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,80 @@
+package com.example.blog_search_platform.controller;
+
+import com.example.blog_search_platform.dto.DeadLetterReplayResponse;
+import com.example.blog_search_platform.dto.ReconcileStatusResponse;
+import com.example.blog_search_platform.dto.ReindexStatusResponse;
+import com.example.blog_search_platform.dto.SearchCacheStatsResponse;
+import com.example.blog_search_platform.service.DeadLetterReplayService;
+import com.example.blog_search_platform.service.PostReconciler;
+import com.example.blog_search_platform.service.PostReindexService;
+import com.example.blog_search_platform.service.PostSearchCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 색인 파이프라인 운영을 위한 관리자 API
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+    private final PostReindexService postReindexService;
+    private final PostSearchCache postSearchCache;
+    // app.reconcile.enabled=false이면 등록되지 않습니다.
+    private final ObjectProvider<PostReconciler> postReconciler;
+
+    /**
+     * DLT에 쌓인 이벤트를 post-events 토픽으로 다시 보내 재색인합니다.
+     * @param maxRecords 이번 요청에서 재처리할 최대 레코드 수 (0 이하이면 재처리하지 않습니다)
+     * @return 재처리한 레코드 수와 HTTP 상태 코드 200 (OK)
+     */
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<DeadLetterReplayResponse> replayDeadLetters(
+            @RequestParam(defaultValue = "1000") int maxRecords
+    ) {
+        return ResponseEntity.ok(deadLetterReplayService.replay(maxRecords));
+    }
+
+    /**
+     * 새 버전의 인덱스로 전체 재색인을 시작합니다. 작업은 백그라운드에서 진행됩니다.
+     * @return 시작된 작업의 상태와 HTTP 상태 코드 202 (Accepted)
+     */
+    @PostMapping("/reindex")
+    public ResponseEntity<ReindexStatusResponse> startReindex() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(postReindexService.start());
+    }
+
+    /**
+     * 가장 최근 재색인 작업의 진행률과 처리량을 조회합니다.
+     * @return 작업 상태와 HTTP 상태 코드 200 (OK), 실행한 적이 없으면 204 (No Content)
+     */
+    @GetMapping("/reindex")
+    public ResponseEntity<ReindexStatusResponse> getReindexStatus() {
+        ReindexStatusResponse status = postReindexService.getStatus();
+        return status == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(status);
+    }
+
+    /**
+     * 검색 결과 캐시의 적중/미스/제거 횟수와 현재 크기를 조회합니다.
+     * @return 캐시 통계와 HTTP 상태 코드 200 (OK)
+     */
+    @GetMapping("/search-cache/stats")
+    public ResponseEntity<SearchCacheStatsResponse> getSearchCacheStats() {
+        return ResponseEntity.ok(postSearchCache.getStats());
+    }
+
+    /**
+     * DB와 검색 인덱스의 정합성 점검 위치와, 찾아서 바로잡은 차이(drift)의 누적 건수를 조회합니다.
+     * @return 점검 현황과 HTTP 상태 코드 200 (OK), 점검이 꺼져 있으면 204 (No Content)
+     */
+    @GetMapping("/reconcile")
+    public ResponseEntity<ReconcileStatusResponse> getReconcileStatus() {
+        PostReconciler reconciler = postReconciler.getIfAvailable();
+        return reconciler == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(reconciler.getStatus());
+    }
+}
@@ -2,16 +2,32 @@ package com.example.blog_search_platform.controller;
 
 import com.example.blog_search_platform.dto.PostCreateRequest;
 import com.example.blog_search_platform.dto.PostResponse;
+import com.example.blog_search_platform.dto.PostSearchCursorResponse;
+import com.example.blog_search_platform.dto.PostSearchOverviewResponse;
 import com.example.blog_search_platform.dto.PostSearchResponse;
+import com.example.blog_search_platform.dto.PostSearchSliceResponse;
+import com.example.blog_search_platform.dto.PostSuggestionResponse;
 import com.example.blog_search_platform.dto.PostUpdateRequest;
+import com.example.blog_search_platform.service.PostAsyncSearchService;
+import com.example.blog_search_platform.service.PostBulkImportService;
+import com.example.blog_search_platform.service.PostExportService;
 import com.example.blog_search_platform.service.PostSearchService;
 import com.example.blog_search_platform.service.PostService;
+import com.example.blog_search_platform.service.PostSuggestService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -20,6 +36,10 @@ public class PostController {
 
     private final PostService postService;
     private final PostSearchService postSearchService; // 검색 서비스 주입
+    private final PostSuggestService postSuggestService;
+    private final PostBulkImportService postBulkImportService;
+    private final PostExportService postExportService;
+    private final PostAsyncSearchService postAsyncSearchService;
 
     @PostMapping
     public ResponseEntity<PostResponse> createPost(@RequestBody PostCreateRequest request) {
@@ -27,10 +47,44 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 게시글 대량 등록 API
+     * 요청 본문은 PostCreateRequest의 JSON 배열 또는 한 줄에 하나씩 쓴 NDJSON이며, 전체를 메모리에 올리지 않고 읽으면서 저장합니다.
+     * 응답은 항목마다 한 줄씩 {"index", "status", "id" 또는 "error"}를 NDJSON으로 내보냅니다.
+     * @param body 요청 본문 스트림
+     * @param response 항목별 결과를 쓸 응답
+     */
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createPostsInBulk(InputStream body, HttpServletResponse response) throws IOException {
+        prepareNdjson(response);
+        postBulkImportService.importPosts(body, response.getOutputStream());
+    }
+
+    /**
+     * 게시글 전체 내보내기 API
+     * DB의 모든 게시글을 id 순서대로 읽으며, 한 줄에 하나씩 NDJSON으로 내보냅니다.
+     * @param response 게시글을 쓸 응답
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportPosts(HttpServletResponse response) throws IOException {
+        prepareNdjson(response);
+        postExportService.exportPosts(response.getOutputStream());
+    }
+
+    /**
+     * 게시글 단건 조회 API
+     * 응답에 ETag를 포함하며, If-None-Match가 현재 ETag와 같으면 본문 없이 304 (Not Modified)를 반환합니다.
+     */
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable Long postId) {
+    public ResponseEntity<PostResponse> getPost(@PathVariable Long postId, WebRequest webRequest) {
         PostResponse response = postService.getPost(postId);
-        return ResponseEntity.ok(response);
+        String eTag = response.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     @PatchMapping("/{postId}")
@@ -49,14 +103,119 @@ public class PostController {
      * 게시글 검색 API
      * @param keyword URL 쿼리 파라미터로 전달된 검색 키워드
      * @param pageable 페이징 정보 (e.g., ?page=0&size=10)
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 반환합니다. (기본값은 요약만 반환)
      * @return 검색된 게시글 목록 (페이징 포함)과 HTTP 상태 코드 200 (OK)
      */
     @GetMapping("/search")
     public ResponseEntity<Page<PostSearchResponse>> searchPosts(
             @RequestParam String keyword,
-            Pageable pageable
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean fullBody
     ) {
-        Page<PostSearchResponse> results = postSearchService.search(keyword, pageable);
+        Page<PostSearchResponse> results = postSearchService.search(keyword, pageable, fullBody);
         return ResponseEntity.ok(results);
     }
+
+    /**
+     * 전체 건수를 세지 않는 게시글 검색 API
+     * 넓은 키워드에서 정확한 전체 건수 집계가 응답 시간을 좌우하므로, 다음 페이지 존재 여부만 반환합니다.
+     * @param keyword 검색 키워드
+     * @param pageable 페이징 정보 (e.g., ?page=0&size=10)
+     * @param totalHitsUpTo 0보다 크면 이 값까지 센 전체 건수를 함께 반환합니다. (e.g., 1000)
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 반환합니다.
+     * @return 검색된 게시글 목록과 다음 페이지 존재 여부, HTTP 상태 코드 200 (OK)
+     */
+    @GetMapping("/search/slice")
+    public ResponseEntity<PostSearchSliceResponse> searchPostsSlice(
+            @RequestParam String keyword,
+            Pageable pageable,
+            @RequestParam(defaultValue = "0") int totalHitsUpTo,
+            @RequestParam(defaultValue = "false") boolean fullBody
+    ) {
+        return ResponseEntity.ok(postSearchService.searchSlice(keyword, pageable, totalHitsUpTo, fullBody));
+    }
+
+    /**
+     * 비동기 게시글 검색 API
+     * 검색 결과, 정확한 전체 건수, 자동완성 후보를 Elasticsearch에 동시에 요청하고 합쳐서 반환합니다.
+     * 응답을 기다리는 동안 요청 스레드를 반환하므로, Elasticsearch가 느려져도 Tomcat 스레드가 고갈되지 않습니다.
+     * @param keyword 검색 키워드
+     * @param pageable 페이징 정보 (e.g., ?page=0&size=10)
+     * @param suggestSize 반환할 최대 자동완성 후보 수
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 반환합니다.
+     * @return 검색 결과, 전체 건수, 자동완성 후보와 HTTP 상태 코드 200 (OK)
+     */
+    @GetMapping("/search/async")
+    public CompletableFuture<ResponseEntity<PostSearchOverviewResponse>> searchPostsAsync(
+            @RequestParam String keyword,
+            Pageable pageable,
+            @RequestParam(defaultValue = "5") int suggestSize,
+            @RequestParam(defaultValue = "false") boolean fullBody
+    ) {
+        return postAsyncSearchService.search(keyword, pageable, suggestSize, fullBody)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * 커서 기반 게시글 검색 API
+     * 페이지 번호 대신 이전 응답의 nextCursor로 다음 페이지를 요청하므로, 깊은 페이지도 일정한 비용으로 조회됩니다.
+     * @param keyword 검색 키워드
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @param pit true이면 point-in-time으로 첫 페이지 시점의 결과를 끝까지 일관되게 조회합니다.
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 반환합니다.
+     * @return 검색된 게시글 목록과 다음 페이지 커서, HTTP 상태 코드 200 (OK)
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<PostSearchCursorResponse> searchPostsByCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean pit,
+            @RequestParam(defaultValue = "false") boolean fullBody
+    ) {
+        return ResponseEntity.ok(postSearchService.searchByCursor(keyword, cursor, size, pit, fullBody));
+    }
+
+    /**
+     * 검색 결과 내보내기 API
+     * 검색어와 일치하는 모든 문서를 PIT와 search_after로 이어서 읽으며, 한 줄에 하나씩 NDJSON으로 내보냅니다.
+     * @param keyword 검색 키워드
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 내보냅니다.
+     * @param response 검색 결과를 쓸 응답
+     */
+    @GetMapping(value = "/search/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportSearchHits(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "false") boolean fullBody,
+            HttpServletResponse response
+    ) throws IOException {
+        prepareNdjson(response);
+        postExportService.exportSearchHits(keyword, fullBody, response.getOutputStream());
+    }
+
+    /**
+     * 검색어 자동완성 API
+     * 입력 중인 검색어로 시작하는 단어가 제목에 있는 게시글의 id와 제목만 반환합니다.
+     * @param prefix 사용자가 입력 중인 검색어
+     * @param size 반환할 최대 후보 수
+     * @return 자동완성 후보 목록과 HTTP 상태 코드 200 (OK)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PostSuggestionResponse>> suggestPosts(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        return ResponseEntity.ok(postSuggestService.suggest(prefix, size));
+    }
+
+    /**
+     * 결과를 NDJSON으로 바로 쓰는 API의 응답 헤더를 설정합니다.
+     * 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로, 항목별 오류는 본문에 기록합니다.
+     */
+    private void prepareNdjson(HttpServletResponse response) {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+    }
 }
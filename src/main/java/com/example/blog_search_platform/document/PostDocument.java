@@ -1,6 +1,7 @@
 package com.example.blog_search_platform.document;
 
 import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.dto.PostEvent;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -9,27 +10,46 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Document(indexName = "posts")
+// 인덱스 생성과 매핑은 NoriAnalyzerConfig가 관리하므로, 리포지토리가 설정 없이 인덱스를 먼저 만들지 않게 합니다.
+@Document(indexName = "posts", createIndex = false)
 public class PostDocument {
 
+    // 커서 검색에서 점수가 같은 문서의 순서를 고정하는 정렬 기준(tiebreaker)으로 사용하므로 숫자 필드로 매핑합니다.
     @Id
+    @Field(type = FieldType.Long)
     private Long id;
 
     // 우리가 NoriAnalyzerConfig에서 정의한 커스텀 분석기 이름("nori_analyzer_custom")을 지정합니다.
-    @Field(type = FieldType.Text, analyzer = "nori_analyzer_custom")
+    // title.autocomplete 서브 필드는 자동완성(/api/posts/suggest)을 위해 edge-ngram 분석기로 따로 색인합니다.
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "nori_analyzer_custom"),
+            otherFields = @InnerField(suffix = "autocomplete", type = FieldType.Text,
+                    analyzer = "autocomplete_index", searchAnalyzer = "autocomplete_search")
+    )
     private String title;
 
     @Field(type = FieldType.Text, analyzer = "nori_analyzer_custom")
     private String contents;
 
+    // Post.updatedAt에서 계산한 외부 버전(external version)입니다.
+    // _version과 같은 값을 문서에도 남겨, 검색 결과만으로 어느 시점의 상태인지 확인할 수 있게 합니다.
+    @Field(type = FieldType.Long)
+    private Long version;
+
     @Builder
-    public PostDocument(Long id, String title, String contents) {
+    public PostDocument(Long id, String title, String contents, Long version) {
         this.id = id;
         this.title = title;
         this.contents = contents;
+        this.version = version;
     }
 
     public static PostDocument from(Post post) {
@@ -37,6 +57,34 @@ public class PostDocument {
                 .id(post.getId())
                 .title(post.getTitle())
                 .contents(post.getContents())
+                .version(versionOf(post.getUpdatedAt()))
                 .build();
     }
+
+    /**
+     * 스냅샷이 포함된 PostEvent로부터 DB 조회 없이 문서를 생성합니다.
+     * @param event 스냅샷이 포함된 이벤트
+     * @return 변환된 PostDocument
+     */
+    public static PostDocument from(PostEvent event) {
+        return PostDocument.builder()
+                .id(event.getPostId())
+                .title(event.getTitle())
+                .contents(event.getContents())
+                .version(event.getVersion() != null ? event.getVersion() : versionOf(event.getUpdatedAt()))
+                .build();
+    }
+
+    /**
+     * 수정 시각을 Elasticsearch 외부 버전으로 변환합니다. (UTC 기준 epoch 마이크로초)
+     * 나중에 수정된 상태일수록 큰 값이 되므로, 늦게 도착한 이전 상태의 쓰기는 Elasticsearch가 거부합니다.
+     * @param updatedAt 게시글 수정 시각
+     * @return 외부 버전, 수정 시각이 없으면 null
+     */
+    public static Long versionOf(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + updatedAt.getNano() / 1_000;
+    }
 }
\ No newline at end of file
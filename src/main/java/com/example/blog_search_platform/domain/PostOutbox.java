@@ -0,0 +1,51 @@
+package com.example.blog_search_platform.domain;
+
+import com.example.blog_search_platform.dto.PostEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트를 Kafka로 발행하기 전까지 보관하는 아웃박스 엔티티
+ * Post와 같은 트랜잭션에서 저장되므로, 커밋된 변경에 대한 이벤트는 유실되지 않습니다.
+ * 발행은 PostOutboxRelay가 id 순서대로 묶어서 처리합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "post_outbox", indexes = @Index(name = "idx_post_outbox_sent_at", columnList = "sentAt"))
+public class PostOutbox {
+
+    // Post와 같은 이유로, 대량 저장 시 배치 INSERT가 가능하도록 pooled 시퀀스를 사용합니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_outbox_seq_generator")
+    @SequenceGenerator(name = "post_outbox_seq_generator", sequenceName = "post_outbox_seq", allocationSize = 100)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PostEvent.EventType eventType;
+
+    private LocalDateTime createdAt;
+
+    // 발행이 완료된 시각. null이면 아직 발행되지 않은 이벤트입니다.
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public PostOutbox(Long postId, PostEvent.EventType eventType) {
+        this.postId = postId;
+        this.eventType = eventType;
+    }
+}
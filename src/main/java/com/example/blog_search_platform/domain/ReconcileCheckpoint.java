@@ -0,0 +1,52 @@
+package com.example.blog_search_platform.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB와 검색 인덱스의 정합성 점검이 어디까지 진행되었는지 기록하는 엔티티
+ * 애플리케이션이 재시작되어도 마지막으로 점검한 위치부터 이어서 진행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reconcile_checkpoint")
+public class ReconcileCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    // 마지막으로 점검한 게시글 id. 0이면 처음부터 점검합니다.
+    @Column(nullable = false)
+    private Long lastId;
+
+    // 전체 게시글을 끝까지 점검한 횟수
+    @Column(nullable = false)
+    private long completedPasses;
+
+    private LocalDateTime updatedAt;
+
+    public ReconcileCheckpoint(String name) {
+        this.name = name;
+        this.lastId = 0L;
+    }
+
+    public void advance(Long lastId) {
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 마지막 묶음까지 점검했으므로, 다음 점검은 처음부터 다시 시작합니다.
+     */
+    public void completePass() {
+        this.lastId = 0L;
+        this.completedPasses++;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
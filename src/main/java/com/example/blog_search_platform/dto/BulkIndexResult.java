@@ -0,0 +1,84 @@
+package com.example.blog_search_platform.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Elasticsearch _bulk 요청의 처리 결과를 나타내는 객체
+ * 전체 요청 수와 함께, 실패한 항목들의 상세 정보를 담습니다.
+ * 외부 버전이 더 낮아 거부된 쓰기(stale)는 실패가 아니라 이미 최신 상태라는 뜻이므로 따로 집계합니다.
+ */
+@Getter
+public class BulkIndexResult {
+
+    private final int total;
+    private final int stale;
+    private final List<ItemFailure> failures;
+
+    public BulkIndexResult(int total, List<ItemFailure> failures) {
+        this(total, 0, failures);
+    }
+
+    public BulkIndexResult(int total, int stale, List<ItemFailure> failures) {
+        this.total = total;
+        this.stale = stale;
+        this.failures = failures;
+    }
+
+    public static BulkIndexResult empty() {
+        return new BulkIndexResult(0, List.of());
+    }
+
+    /**
+     * 여러 _bulk 요청의 결과를 하나로 합칩니다.
+     * @param results 합칠 결과 목록
+     * @return 전체 요청 수, stale 수, 실패 항목을 모두 합친 결과
+     */
+    public static BulkIndexResult merge(List<BulkIndexResult> results) {
+        int total = 0;
+        int stale = 0;
+        List<ItemFailure> failures = new ArrayList<>();
+        for (BulkIndexResult result : results) {
+            total += result.getTotal();
+            stale += result.getStale();
+            failures.addAll(result.getFailures());
+        }
+        return new BulkIndexResult(total, stale, failures);
+    }
+
+    public int getSucceeded() {
+        return total - stale - failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * _bulk 응답에서 에러가 포함된 개별 항목
+     */
+    @Getter
+    public static class ItemFailure {
+        private final Long postId;
+        private final int status;
+        private final String type;
+        private final String reason;
+
+        public ItemFailure(Long postId, int status, String type, String reason) {
+            this.postId = postId;
+            this.status = status;
+            this.type = type;
+            this.reason = reason;
+        }
+
+        /**
+         * 다시 시도하면 성공할 수 있는 실패인지 확인합니다.
+         * 과부하(429)나 서버 오류(5xx)는 일시적인 문제로 보고, 그 외(매핑 오류 등)는 재시도해도 실패합니다.
+         */
+        public boolean isRetryable() {
+            return status == 429 || status >= 500;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.blog_search_platform.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 대량 등록 요청의 항목별 처리 결과
+ * 응답은 요청 항목마다 한 줄씩(NDJSON) 내보내며, index는 요청에서 항목의 순서(0부터)입니다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+    private final int index;
+    private final int status;
+    private final Long id;
+    private final String error;
+
+    private BulkItemResult(int index, int status, Long id, String error) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static BulkItemResult created(int index, Long id) {
+        return new BulkItemResult(index, 201, id, null);
+    }
+
+    public static BulkItemResult failed(int index, int status, String error) {
+        return new BulkItemResult(index, status, null, error);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.blog_search_platform.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * DLT 재처리 결과를 클라이언트에게 반환할 때 사용하는 DTO
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeadLetterReplayResponse {
+    private final int replayed;
+    // 재처리할 레코드가 없었던 이유 (DLT 토픽이 아직 없는 경우 등). 재처리를 진행했으면 null입니다.
+    private final String message;
+
+    public DeadLetterReplayResponse(int replayed) {
+        this(replayed, null);
+    }
+
+    private DeadLetterReplayResponse(int replayed, String message) {
+        this.replayed = replayed;
+        this.message = message;
+    }
+
+    /**
+     * DLT 토픽이 아직 만들어지지 않아 재처리할 레코드가 없을 때의 결과를 만듭니다.
+     */
+    public static DeadLetterReplayResponse nothingToReplay() {
+        return nothingToReplay("DLT 토픽이 아직 없어 재처리할 레코드가 없습니다.");
+    }
+
+    /**
+     * 재처리를 진행하지 않았을 때의 결과를 만듭니다.
+     * @param message 재처리하지 않은 이유
+     */
+    public static DeadLetterReplayResponse nothingToReplay(String message) {
+        return new DeadLetterReplayResponse(0, message);
+    }
+}
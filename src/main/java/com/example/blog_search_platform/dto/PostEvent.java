@@ -1,19 +1,79 @@
 package com.example.blog_search_platform.dto;
 
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.domain.Post;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 /**
  * 게시글의 데이터 변경(C/U/D) 이벤트를 나타내는 객체
+ * title/contents/updatedAt 스냅샷이 포함된 이벤트(fat event)는 컨슈머가 DB를 다시 조회하지 않고 바로 색인합니다.
+ * 스냅샷이 없는 이벤트(thin event)는 기존처럼 postId로 DB를 조회합니다.
+ * version은 Elasticsearch 외부 버전으로, 순서가 뒤바뀌어 도착한 이전 상태의 쓰기를 막는 데 사용합니다.
  */
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PostEvent {
 
     private final Long postId;
     private final EventType eventType;
+    private final String title;
+    private final String contents;
+    private final LocalDateTime updatedAt;
+    private final Long version;
 
     public PostEvent(Long postId, EventType eventType) {
+        this(postId, eventType, null, null, null, null);
+    }
+
+    public PostEvent(Long postId, EventType eventType, String title, String contents, LocalDateTime updatedAt) {
+        this(postId, eventType, title, contents, updatedAt, PostDocument.versionOf(updatedAt));
+    }
+
+    @JsonCreator
+    public PostEvent(@JsonProperty("postId") Long postId,
+                     @JsonProperty("eventType") EventType eventType,
+                     @JsonProperty("title") String title,
+                     @JsonProperty("contents") String contents,
+                     @JsonProperty("updatedAt") LocalDateTime updatedAt,
+                     @JsonProperty("version") Long version) {
         this.postId = postId;
         this.eventType = eventType;
+        this.title = title;
+        this.contents = contents;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    /**
+     * 게시글의 현재 상태를 스냅샷으로 담은 이벤트를 생성합니다.
+     * @param post 스냅샷을 만들 게시글 (flush 이후의 상태여야 updatedAt이 올바르게 담깁니다)
+     * @param eventType 이벤트 타입
+     * @return 스냅샷이 포함된 PostEvent
+     */
+    public static PostEvent snapshotOf(Post post, EventType eventType) {
+        return new PostEvent(post.getId(), eventType, post.getTitle(), post.getContents(), post.getUpdatedAt());
+    }
+
+    /**
+     * 삭제 이벤트를 생성합니다. 삭제 시각을 버전으로 사용해 Elasticsearch에 버전이 있는 삭제 기록(tombstone)을 남깁니다.
+     * @param postId 삭제된 게시글 ID
+     * @param deletedAt 삭제 시각
+     * @return DELETED 타입의 PostEvent
+     */
+    public static PostEvent deletionOf(Long postId, LocalDateTime deletedAt) {
+        return new PostEvent(postId, EventType.DELETED, null, null, null, PostDocument.versionOf(deletedAt));
+    }
+
+    /**
+     * DB 조회 없이 색인할 수 있는 스냅샷이 포함되어 있는지 확인합니다.
+     */
+    public boolean hasSnapshot() {
+        return title != null && contents != null;
     }
 
     public enum EventType {
@@ -21,4 +81,4 @@ public class PostEvent {
         UPDATED,
         DELETED
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.example.blog_search_platform.dto;
 
+import com.example.blog_search_platform.document.PostDocument;
 import com.example.blog_search_platform.domain.Post;
 import lombok.Getter;
 
@@ -14,11 +15,29 @@ public class PostResponse {
     private final String title;
     private final String contents;
     private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
 
     public PostResponse(Post post) {
-        this.id = post.getId();
-        this.title = post.getTitle();
-        this.contents = post.getContents();
-        this.createdAt = post.getCreatedAt();
+        this(post.getId(), post.getTitle(), post.getContents(), post.getCreatedAt(), post.getUpdatedAt());
+    }
+
+    /**
+     * JPQL 생성자 표현식(select new ...)으로 엔티티를 거치지 않고 조회할 때 사용합니다.
+     */
+    public PostResponse(Long id, String title, String contents, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 게시글의 현재 상태를 나타내는 강한(strong) ETag를 만듭니다.
+     * updatedAt은 내용이 바뀔 때마다 갱신되므로, id와 수정 시각(외부 버전)만으로 본문이 같은지 판단할 수 있습니다.
+     * @return 따옴표로 감싼 ETag 값 (e.g., "1-1704067200000000")
+     */
+    public String eTag() {
+        return "\"" + id + "-" + PostDocument.versionOf(updatedAt) + "\"";
     }
 }
\ No newline at end of file
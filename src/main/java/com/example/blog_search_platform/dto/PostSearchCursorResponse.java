@@ -0,0 +1,22 @@
+package com.example.blog_search_platform.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 게시글 검색 결과를 클라이언트에게 반환할 때 사용하는 DTO
+ * 다음 페이지가 있으면 nextCursor를 그대로 다음 요청의 cursor 파라미터로 전달합니다.
+ */
+@Getter
+public class PostSearchCursorResponse {
+    private final List<PostSearchResponse> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public PostSearchCursorResponse(List<PostSearchResponse> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.blog_search_platform.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 검색 결과, 정확한 전체 건수, 검색어 자동완성 후보를 한 번에 반환할 때 사용하는 DTO
+ * 세 값은 Elasticsearch에 동시에 요청해서 받은 결과를 합친 것입니다.
+ */
+@Getter
+@Builder
+public class PostSearchOverviewResponse {
+    private final List<PostSearchResponse> content;
+    private final int page;
+    private final int size;
+    private final long totalHits;
+    // 자동완성 요청이 실패하거나 제한 시간을 넘으면 빈 목록입니다.
+    private final List<PostSuggestionResponse> suggestions;
+}
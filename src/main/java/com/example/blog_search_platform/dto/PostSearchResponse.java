@@ -1,23 +1,32 @@
 package com.example.blog_search_platform.dto;
 
+import co.elastic.clients.elasticsearch.core.search.Hit;
 import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 /**
  * 게시글 검색 결과를 클라이언트에게 반환할 때 사용하는 DTO
+ * 기본 검색 결과에는 본문 전체(contents) 대신 검색어가 하이라이트된 본문 요약(snippet)만 포함됩니다.
  */
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PostSearchResponse {
     private final Long id;
     private final String title;
     private final String contents;
+    private final String snippet;
 
     @Builder
-    public PostSearchResponse(Long id, String title, String contents) {
+    public PostSearchResponse(Long id, String title, String contents, String snippet) {
         this.id = id;
         this.title = title;
         this.contents = contents;
+        this.snippet = snippet;
     }
 
     /**
@@ -32,4 +41,21 @@ public class PostSearchResponse {
                 .contents(document.getContents())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색 결과(Hit)를 PostSearchResponse DTO로 변환합니다.
+     * contents는 본문 전체를 요청한 경우에만 채워지며, snippet은 contents 필드의 하이라이트 결과입니다.
+     * @param hit Elasticsearch Java 클라이언트의 검색 결과
+     * @return 변환된 PostSearchResponse
+     */
+    public static PostSearchResponse from(Hit<PostDocument> hit) {
+        PostDocument document = hit.source();
+        List<String> fragments = hit.highlight().getOrDefault(PostSearchQueryRepository.SNIPPET_FIELD, List.of());
+        return PostSearchResponse.builder()
+                .id(document.getId())
+                .title(document.getTitle())
+                .contents(document.getContents())
+                .snippet(fragments.isEmpty() ? null : String.join(" … ", fragments))
+                .build();
+    }
+}
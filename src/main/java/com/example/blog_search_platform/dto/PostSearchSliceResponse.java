@@ -0,0 +1,25 @@
+package com.example.blog_search_platform.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 전체 건수 없이(또는 상한까지만 센 건수와 함께) 게시글 검색 결과를 반환할 때 사용하는 DTO
+ * Spring의 Page 직렬화 형식에 의존하지 않는 고정된 응답 형식입니다.
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostSearchSliceResponse {
+    private final List<PostSearchResponse> content;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    // 전체 건수를 요청한 경우에만 포함됩니다.
+    private final Long totalHits;
+    // "eq"이면 정확한 값, "gte"이면 상한에 도달해 실제 건수는 totalHits 이상입니다.
+    private final String totalHitsRelation;
+}
@@ -0,0 +1,23 @@
+package com.example.blog_search_platform.dto;
+
+import com.example.blog_search_platform.document.PostDocument;
+import lombok.Getter;
+
+/**
+ * 자동완성 후보를 클라이언트에게 반환할 때 사용하는 DTO
+ * 키 입력마다 호출되므로 id와 제목만 담습니다.
+ */
+@Getter
+public class PostSuggestionResponse {
+    private final Long id;
+    private final String title;
+
+    public PostSuggestionResponse(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    public static PostSuggestionResponse from(PostDocument document) {
+        return new PostSuggestionResponse(document.getId(), document.getTitle());
+    }
+}
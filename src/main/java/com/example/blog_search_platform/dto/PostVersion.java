@@ -0,0 +1,28 @@
+package com.example.blog_search_platform.dto;
+
+import com.example.blog_search_platform.document.PostDocument;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 id와 외부 버전(수정 시각)만 담는 객체
+ * DB와 Elasticsearch의 상태를 본문 없이 비교할 때 사용합니다.
+ */
+@Getter
+public class PostVersion {
+    private final Long id;
+    private final Long version;
+
+    public PostVersion(Long id, Long version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    /**
+     * JPQL 생성자 표현식(select new ...)으로 DB에서 조회할 때 사용합니다.
+     */
+    public PostVersion(Long id, LocalDateTime updatedAt) {
+        this(id, PostDocument.versionOf(updatedAt));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.blog_search_platform.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB와 검색 인덱스 사이의 정합성 점검 현황을 클라이언트에게 반환할 때 사용하는 DTO
+ * 체크포인트를 제외한 값은 이 인스턴스가 시작된 이후의 누적값입니다.
+ */
+@Getter
+@Builder
+public class ReconcileStatusResponse {
+    // 다음 점검을 시작할 위치 (이 id 이후부터 점검합니다)
+    private final Long checkpointId;
+    private final long completedPasses;
+    private final long scannedChunks;
+    // 요약값(digest)이 달라 게시글 단위로 비교한 묶음의 수
+    private final long driftedChunks;
+    private final long reindexedPosts;
+    private final long deletedPosts;
+    private final LocalDateTime lastDriftAt;
+}
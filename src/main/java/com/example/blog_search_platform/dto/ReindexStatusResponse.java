@@ -0,0 +1,25 @@
+package com.example.blog_search_platform.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재색인 작업의 진행 상황을 클라이언트에게 반환할 때 사용하는 DTO
+ */
+@Getter
+@Builder
+public class ReindexStatusResponse {
+    private final String phase;
+    private final String targetIndex;
+    private final long totalPosts;
+    private final long indexedPosts;
+    private final long failedPosts;
+    private final long caughtUpEvents;
+    private final double progressPercent;
+    private final double postsPerSecond;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String error;
+}
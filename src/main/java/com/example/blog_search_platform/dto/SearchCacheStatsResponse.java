@@ -0,0 +1,20 @@
+package com.example.blog_search_platform.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 검색 결과 캐시의 적중률과 크기를 클라이언트에게 반환할 때 사용하는 DTO
+ */
+@Getter
+@Builder
+public class SearchCacheStatsResponse {
+    private final long hits;
+    private final long misses;
+    // misses 중 캐시에 있었지만 색인 변경 이후 max-staleness가 지나 다시 조회한 횟수
+    private final long staleMisses;
+    private final long evictions;
+    private final double hitRate;
+    private final long size;
+    private final long generation;
+}
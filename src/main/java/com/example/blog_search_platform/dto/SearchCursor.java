@@ -0,0 +1,33 @@
+package com.example.blog_search_platform.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 검색에서 다음 페이지의 시작 위치를 나타내는 객체
+ * 클라이언트에는 Base64로 인코딩된 불투명한(opaque) 문자열로 전달되며, 내용은 서버만 해석합니다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchCursor {
+
+    // 커서를 만든 검색어입니다. 다른 검색어에 커서를 재사용하는 것을 막습니다.
+    private final String keyword;
+    // 이전 페이지 마지막 문서의 정렬 값(_score, id)으로, 다음 요청의 search_after가 됩니다.
+    private final List<Object> searchAfter;
+    // point-in-time 모드일 때 사용 중인 PIT ID입니다.
+    private final String pitId;
+
+    @JsonCreator
+    public SearchCursor(@JsonProperty("keyword") String keyword,
+                        @JsonProperty("searchAfter") List<Object> searchAfter,
+                        @JsonProperty("pitId") String pitId) {
+        this.keyword = keyword;
+        this.searchAfter = searchAfter;
+        this.pitId = pitId;
+    }
+}
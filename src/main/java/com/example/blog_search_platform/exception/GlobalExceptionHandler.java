@@ -1,6 +1,10 @@
 package com.example.blog_search_platform.exception;
 
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
 import com.example.blog_search_platform.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -9,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 /**
  * 애플리케이션 전역의 예외를 처리하는 클래스
  */
+@Slf4j
 @RestControllerAdvice // 모든 @RestController에서 발생하는 예외를 가로챕니다.
 public class GlobalExceptionHandler {
 
@@ -23,14 +28,98 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * InvalidCursorException 예외를 처리하는 핸들러 메서드
+     * @param e 발생한 InvalidCursorException 예외
+     * @return 에러 메시지와 HTTP 상태 코드 400 (Bad Request)를 담은 응답
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST.value());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * SearchTimeoutException 예외를 처리하는 핸들러 메서드
+     * @param e 발생한 SearchTimeoutException 예외
+     * @return 에러 메시지와 HTTP 상태 코드 504 (Gateway Timeout)를 담은 응답
+     */
+    @ExceptionHandler(SearchTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleSearchTimeoutException(SearchTimeoutException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.GATEWAY_TIMEOUT.value());
+        return new ResponseEntity<>(errorResponse, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    /**
+     * SearchUnavailableException 예외를 처리하는 핸들러 메서드
+     * Retry-After 헤더로 클라이언트가 다시 요청하기까지 기다려야 할 시간(초)을 알려줍니다.
+     * @param e 발생한 SearchUnavailableException 예외
+     * @return 에러 메시지와 HTTP 상태 코드 503 (Service Unavailable)를 담은 응답
+     */
+    @ExceptionHandler(SearchUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSearchUnavailableException(SearchUnavailableException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Elasticsearch가 검색 요청을 거부한 경우(4xx)를 처리하는 핸들러 메서드
+     * 커서의 PIT가 만료되어 검색 컨텍스트를 찾을 수 없으면 410, 인덱스가 없으면 404, 그 외에는 잘못된 요청(400)으로 응답합니다.
+     * Elasticsearch의 오류 메시지에는 쿼리나 인덱스 정보가 포함될 수 있으므로, 응답에는 담지 않고 로그에만 남깁니다.
+     * @param e 발생한 ElasticsearchException 예외
+     * @return 에러 메시지와 HTTP 상태 코드 410 (Gone), 404 (Not Found) 또는 400 (Bad Request)를 담은 응답
+     */
+    @ExceptionHandler(ElasticsearchException.class)
+    public ResponseEntity<ErrorResponse> handleElasticsearchException(ElasticsearchException e) {
+        log.warn("Search request rejected by Elasticsearch: status={}, reason={}", e.status(), e.getMessage());
+        HttpStatus status;
+        String message;
+        if (isSearchContextMissing(e.error())) {
+            status = HttpStatus.GONE;
+            message = "검색 커서가 만료되었습니다. 처음부터 다시 검색해 주세요.";
+        } else if (e.status() == HttpStatus.NOT_FOUND.value()) {
+            status = HttpStatus.NOT_FOUND;
+            message = "검색 인덱스를 찾을 수 없습니다.";
+        } else {
+            status = HttpStatus.BAD_REQUEST;
+            message = "잘못된 검색 요청입니다.";
+        }
+        return new ResponseEntity<>(new ErrorResponse(message, status.value()), status);
+    }
+
+    /**
+     * ReindexInProgressException 예외를 처리하는 핸들러 메서드
+     * @param e 발생한 ReindexInProgressException 예외
+     * @return 에러 메시지와 HTTP 상태 코드 409 (Conflict)를 담은 응답
+     */
+    @ExceptionHandler(ReindexInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleReindexInProgressException(ReindexInProgressException e) {
+        ErrorResponse errorResponse = new ErrorResponse(e.getMessage(), HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * 그 외 처리하지 않은 모든 예외를 처리하는 핸들러 메서드
+     * 예외 메시지에는 내부 주소나 쿼리 같은 정보가 포함될 수 있으므로, 응답에는 담지 않고 로그에만 남깁니다.
      * @param e 발생한 Exception 예외
      * @return 에러 메시지와 HTTP 상태 코드 500 (Internal Server Error)를 담은 응답
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGlobalException(Exception e) {
-        ErrorResponse errorResponse = new ErrorResponse("서버 내부 오류가 발생했습니다: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR.value());
+        log.error("Unhandled exception", e);
+        ErrorResponse errorResponse = new ErrorResponse("서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR.value());
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    private static boolean isSearchContextMissing(ErrorCause error) {
+        if (error == null) {
+            return false;
+        }
+        if ("search_context_missing_exception".equals(error.type())) {
+            return true;
+        }
+        return error.rootCause().stream().anyMatch(cause -> "search_context_missing_exception".equals(cause.type()));
+    }
 }
\ No newline at end of file
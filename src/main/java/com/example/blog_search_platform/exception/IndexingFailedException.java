@@ -0,0 +1,11 @@
+package com.example.blog_search_platform.exception;
+
+/**
+ * 게시글 문서를 Elasticsearch에 반영하지 못했을 때 발생하는 예외 클래스
+ * 재시도 토픽 리스너에서 이 예외가 발생하면 다음 재시도 단계로 넘어갑니다.
+ */
+public class IndexingFailedException extends RuntimeException {
+    public IndexingFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.blog_search_platform.exception;
+
+/**
+ * 검색 커서를 해석할 수 없거나 다른 검색어에 사용했을 때 발생하는 예외 클래스
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
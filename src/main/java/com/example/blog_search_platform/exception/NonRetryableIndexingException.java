@@ -0,0 +1,15 @@
+package com.example.blog_search_platform.exception;
+
+/**
+ * 다시 시도해도 성공할 수 없는 색인 실패(디코딩할 수 없는 메시지, 매핑 오류 등)를 나타내는 예외 클래스
+ * 재시도 토픽 리스너에서 이 예외가 발생하면 남은 재시도 없이 바로 DLT로 이동합니다.
+ */
+public class NonRetryableIndexingException extends RuntimeException {
+    public NonRetryableIndexingException(String message) {
+        super(message);
+    }
+
+    public NonRetryableIndexingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.blog_search_platform.exception;
+
+/**
+ * 이미 재색인 작업이 진행 중인데 새 재색인을 요청했을 때 발생하는 예외 클래스
+ */
+public class ReindexInProgressException extends RuntimeException {
+    public ReindexInProgressException(String message) {
+        super(message);
+    }
+}
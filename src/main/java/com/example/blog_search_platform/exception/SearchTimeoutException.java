@@ -0,0 +1,10 @@
+package com.example.blog_search_platform.exception;
+
+/**
+ * 검색 결과를 제한 시간 안에 받지 못했을 때 발생하는 예외 클래스
+ */
+public class SearchTimeoutException extends RuntimeException {
+    public SearchTimeoutException(String message) {
+        super(message);
+    }
+}
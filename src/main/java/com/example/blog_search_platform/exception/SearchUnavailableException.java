@@ -0,0 +1,23 @@
+package com.example.blog_search_platform.exception;
+
+import lombok.Getter;
+
+/**
+ * Elasticsearch 장애나 과부하로 검색을 처리할 수 없을 때 발생하는 예외 클래스
+ * 클라이언트가 다시 요청하기까지 기다려야 할 시간(초)을 함께 전달합니다.
+ */
+@Getter
+public class SearchUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public SearchUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public SearchUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
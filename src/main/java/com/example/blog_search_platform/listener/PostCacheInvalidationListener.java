@@ -0,0 +1,77 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.service.PostCache;
+import com.example.blog_search_platform.service.PostSearchCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * post-events를 구독해 변경된 게시글을 이 인스턴스의 PostCache에서 제거하고, PostSearchCache의 세대를 올리는 리스너
+ * 색인용 컨슈머 그룹은 파티션을 인스턴스끼리 나눠 받지만, 캐시는 모든 인스턴스에 있으므로
+ * 그룹 관리 없이 모든 파티션을 직접 할당받습니다. 시작 이전의 이벤트는 필요 없으므로 할당 즉시 끝 오프셋으로 이동합니다.
+ * 색인은 파티션을 맡은 한 인스턴스에서만 일어나므로, 검색 결과 캐시도 모든 인스턴스가 여기서 세대를 올려야
+ * 다른 인스턴스가 색인한 변경이 ttl까지 기다리지 않고 max-staleness 안에 반영됩니다.
+ *
+ * 오프셋 커밋에만 쓰이는 group.id는 호스트마다 고정된 값(app.post-cache.instance-id, 기본값은 호스트 이름)을 사용해,
+ * 재시작할 때마다 새 컨슈머 그룹이 브로커에 남지 않게 합니다. 직접 할당이므로 같은 값을 쓰는 인스턴스가 있어도 파티션을 나눠 갖지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCacheInvalidationListener implements ConsumerSeekAware {
+
+    private final PostCache postCache;
+    private final PostSearchCache postSearchCache;
+    private final PostEventCodec postEventCodec;
+
+    @KafkaListener(topicPartitions = @TopicPartition(topic = KafkaTopicConfig.POST_EVENTS,
+            partitions = "0-#{${app.kafka.topic.partitions:6} - 1}"),
+            groupId = "${app.post-cache.invalidation-group-prefix:blog-search-post-cache}-${app.post-cache.instance-id:#{T(java.net.InetAddress).getLocalHost().getHostName()}}",
+            concurrency = "1")
+    public void invalidate(List<ConsumerRecord<String, byte[]>> records) {
+        Set<Long> postIds = new LinkedHashSet<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            Long postId = postIdOf(record);
+            if (postId != null) {
+                postIds.add(postId);
+            }
+        }
+        postCache.invalidateAll(postIds);
+        if (!records.isEmpty()) {
+            // 이벤트는 색인보다 먼저 도착할 수 있지만, 세대 변경 후 index-refresh-interval 안에 조회한 결과는 최신으로 취급하지 않습니다.
+            postSearchCache.bumpGeneration();
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<org.apache.kafka.common.TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToEnd(assignments.keySet());
+    }
+
+    /**
+     * 레코드 키(postId)에서 게시글 ID를 읽고, 키가 없는 레코드는 메시지 본문에서 읽습니다.
+     */
+    private Long postIdOf(ConsumerRecord<String, byte[]> record) {
+        try {
+            if (record.key() != null) {
+                return Long.valueOf(record.key());
+            }
+            return postEventCodec.decode(record.value()).getPostId();
+        } catch (Exception e) {
+            log.warn("Failed to read postId for cache invalidation: offset={}", record.offset(), e);
+            return null;
+        }
+    }
+}
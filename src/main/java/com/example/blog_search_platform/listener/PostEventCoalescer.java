@@ -0,0 +1,52 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.dto.PostEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 같은 게시글에 대한 이벤트를 하나로 합치는 클래스
+ * 자동 저장처럼 짧은 시간에 같은 postId의 이벤트가 몰릴 때, 마지막 상태만 DB 조회/색인 대상으로 남깁니다.
+ * 합치는 범위(윈도우)는 한 번의 poll로 받은 배치이며,
+ * 크기는 max-poll-records, 시간은 fetch-max-wait 설정으로 제한됩니다.
+ */
+@Component
+public class PostEventCoalescer {
+
+    private final AtomicLong collapsedCount = new AtomicLong();
+
+    /**
+     * postId 별로 가장 마지막 이벤트만 남깁니다.
+     * 단, DELETED 이벤트는 앞뒤의 CREATED/UPDATED 이벤트보다 항상 우선합니다.
+     * @param events 수신 순서대로 정렬된 이벤트 목록
+     * @return postId 별로 하나씩 남은 이벤트 목록
+     */
+    public List<PostEvent> coalesce(List<PostEvent> events) {
+        Map<Long, PostEvent> survivors = new LinkedHashMap<>();
+        for (PostEvent event : events) {
+            survivors.merge(event.getPostId(), event, PostEventCoalescer::pick);
+        }
+        collapsedCount.addAndGet(events.size() - survivors.size());
+        return new ArrayList<>(survivors.values());
+    }
+
+    /**
+     * 지금까지 합쳐져서 버려진 이벤트의 누적 개수를 반환합니다.
+     */
+    public long getCollapsedCount() {
+        return collapsedCount.get();
+    }
+
+    private static PostEvent pick(PostEvent previous, PostEvent next) {
+        // 삭제된 게시글은 다시 생성되지 않으므로, 재전송 등으로 늦게 도착한 이벤트가 삭제를 덮어쓰지 않게 합니다.
+        if (previous.getEventType() == PostEvent.EventType.DELETED) {
+            return previous;
+        }
+        return next;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.dto.PostEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicHeaders;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 색인에 실패한 이벤트를 재시도 토픽 또는 DLT로 옮기는 클래스
+ * 실패한 이벤트를 메인 파티션에서 빼내므로, 한 이벤트 때문에 다른 게시글의 색인이 멈추지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostEventRetryPublisher {
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final PostEventCodec postEventCodec;
+
+    @Value("${app.kafka.retry.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    @Value("${app.kafka.retry.initial-delay-ms:1000}")
+    private long initialDelayMs;
+
+    /**
+     * 일시적인 오류로 실패한 이벤트를 첫 번째 지연 재시도 토픽으로 보냅니다.
+     * 재시도 토픽의 입구(post-events.retry)는 지연 없이 바로 소비되므로, 곧바로 다시 실패하지 않도록 첫 지연 단계로 보냅니다.
+     * 메인 리스너에서의 시도를 첫 번째 시도로 보고, @RetryableTopic이 단계 사이에 붙이는 것과 같은 헤더를 붙입니다.
+     * @param events 재시도할 이벤트 목록
+     */
+    public void sendToRetry(Collection<PostEvent> events) {
+        byte[] backoffTimestamp = BigInteger.valueOf(System.currentTimeMillis() + initialDelayMs).toByteArray();
+        byte[] attempts = ByteBuffer.allocate(Integer.BYTES).putInt(2).array();
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (PostEvent event : events) {
+            ProducerRecord<String, byte[]> record = new ProducerRecord<>(KafkaTopicConfig.POST_EVENTS_RETRY_FIRST_DELAY,
+                    String.valueOf(event.getPostId()), postEventCodec.encode(event));
+            record.headers().add(RetryTopicHeaders.DEFAULT_HEADER_BACKOFF_TIMESTAMP, backoffTimestamp);
+            record.headers().add(RetryTopicHeaders.DEFAULT_HEADER_ATTEMPTS, attempts);
+            futures.add(kafkaTemplate.send(record));
+        }
+        awaitAll(futures);
+        log.warn("Post events forwarded to retry topic: count={}", events.size());
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 이벤트를 DLT로 보냅니다.
+     * @param events DLT로 보낼 이벤트 목록
+     */
+    public void sendToDeadLetter(Collection<PostEvent> events) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (PostEvent event : events) {
+            futures.add(kafkaTemplate.send(KafkaTopicConfig.POST_EVENTS_DLT, String.valueOf(event.getPostId()), postEventCodec.encode(event)));
+        }
+        awaitAll(futures);
+        log.warn("Post events forwarded to dead-letter topic: count={}", events.size());
+    }
+
+    /**
+     * 역직렬화할 수 없는 원본 메시지를 그대로 DLT로 보냅니다.
+     * @param message 원본 메시지
+     */
+    public void sendRawToDeadLetter(byte[] message) {
+        awaitAll(List.of(kafkaTemplate.send(KafkaTopicConfig.POST_EVENTS_DLT, message)));
+    }
+
+    /**
+     * 전송이 확인될 때까지 기다립니다.
+     * 전송에 실패하면 예외를 던져 배치가 다시 전달되게 하므로, 실패한 이벤트가 조용히 사라지지 않습니다.
+     */
+    private void awaitAll(List<CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while forwarding failed post events", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to forward failed post events", e);
+        }
+    }
+}
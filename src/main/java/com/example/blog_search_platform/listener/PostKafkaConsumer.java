@@ -1,46 +1,140 @@
 package com.example.blog_search_platform.listener;
 
-import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.dto.BulkIndexResult;
 import com.example.blog_search_platform.dto.PostEvent;
-import com.example.blog_search_platform.repository.PostRepository;
-import com.example.blog_search_platform.repository.elasticsearch.PostSearchRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.blog_search_platform.metrics.LogSampler;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.service.PostIndexingService;
+import com.example.blog_search_platform.service.PostSearchCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PostKafkaConsumer {
 
-    private final PostRepository postRepository;
-    private final PostSearchRepository postSearchRepository;
-    private final ObjectMapper objectMapper;
+    private final PostIndexingService postIndexingService;
+    private final PostEventCoalescer postEventCoalescer;
+    private final PostEventRetryPublisher postEventRetryPublisher;
+    private final PostSearchCache postSearchCache;
+    private final PostEventCodec postEventCodec;
+    private final PostPipelineMetrics postPipelineMetrics;
+    private final LogSampler logSampler;
+
+    /**
+     * 한 번의 poll로 받은 메시지 묶음을 처리합니다.
+     * 같은 postId의 이벤트는 하나로 합친 뒤, 남은 이벤트만 DB 조회와 색인에 사용합니다.
+     * 배치 크기와 대기 시간은 spring.kafka.consumer.max-poll-records / fetch-max-wait 로 조정합니다.
+     * 색인에 실패한 이벤트는 재시도 토픽이나 DLT로 옮기고, 이 파티션은 다음 배치로 계속 진행합니다.
+     * @param messages 인코딩된 PostEvent 목록 (바이너리 또는 기존 JSON 형식)
+     * @param timestamps 각 레코드의 Kafka 타임스탬프 (발행 시각)
+     */
+    @KafkaListener(topics = KafkaTopicConfig.POST_EVENTS, groupId = "${spring.kafka.consumer.group-id}")
+    public void consumePostEvents(List<byte[]> messages,
+                                  @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps) {
+        timestamps.forEach(postPipelineMetrics::recordConsumed);
+        postPipelineMetrics.recordBatchSize(messages.size());
+
+        long deserializeStart = System.nanoTime();
+        List<PostEvent> events = new ArrayList<>(messages.size());
+        for (byte[] message : messages) {
+            try {
+                events.add(postEventCodec.decode(message));
+            } catch (IllegalArgumentException e) {
+                log.error("Failed to decode message, sending to dead-letter topic: bytes={}", message.length, e);
+                postEventRetryPublisher.sendRawToDeadLetter(message);
+            }
+        }
+        postPipelineMetrics.recordStage(PostPipelineMetrics.STAGE_DESERIALIZE, deserializeStart);
 
-    @KafkaListener(topics = "post-events", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumePostEvent(String message) {
+        long coalesceStart = System.nanoTime();
+        List<PostEvent> survivors = postEventCoalescer.coalesce(events);
+        postPipelineMetrics.recordStage(PostPipelineMetrics.STAGE_COALESCE, coalesceStart);
+        boolean logBatch = logSampler.sample("kafka-batch") || log.isDebugEnabled();
+        if (logBatch) {
+            log.info("Kafka batch consumed: records={}, events={}, coalesced={}",
+                    messages.size(), events.size(), events.size() - survivors.size());
+        }
+
+        BulkIndexResult result;
         try {
-            PostEvent event = objectMapper.readValue(message, PostEvent.class);
-            Long postId = event.getPostId();
-            log.info("Kafka message consumed: type={}, postId={}", event.getEventType(), postId);
-
-            switch (event.getEventType()) {
-                case CREATED, UPDATED:
-                    postRepository.findById(postId).ifPresent(post -> {
-                        postSearchRepository.save(PostDocument.from(post));
-                        log.info("Post document saved/updated to Elasticsearch: id={}", post.getId());
-                    });
-                    break;
-                case DELETED:
-                    postSearchRepository.deleteById(postId);
-                    log.info("Post document deleted from Elasticsearch: id={}", postId);
-                    break;
+            result = postIndexingService.index(survivors);
+        } catch (RuntimeException e) {
+            // Elasticsearch 자체에 문제가 있는 경우, 배치 전체를 재시도 토픽으로 옮기고 파티션을 멈추지 않습니다.
+            log.warn("Elasticsearch bulk request failed, forwarding batch to retry topic: events={}", survivors.size(), e);
+            postEventRetryPublisher.sendToRetry(survivors);
+            return;
+        }
+
+        if (result.getSucceeded() > 0) {
+            // 색인이 바뀌었으므로 이전에 캐시된 검색 결과를 오래된 것으로 표시합니다.
+            // 변경은 다음 refresh 이후에 검색에 보이며, 그 전에 조회된 결과는 캐시가 최신으로 취급하지 않습니다.
+            postSearchCache.bumpGeneration();
+        }
+        recordSearchable(survivors, result);
+        if (result.hasFailures()) {
+            forwardFailures(survivors, result.getFailures());
+        }
+        if (logBatch) {
+            log.info("Elasticsearch bulk completed: operations={}, succeeded={}, stale={}, failed={}",
+                    result.getTotal(), result.getSucceeded(), result.getStale(), result.getFailures().size());
+        }
+    }
+
+    /**
+     * 색인에 실패하지 않은 이벤트의 수정 시각부터 지금까지를 반영 지연으로 기록합니다.
+     */
+    private void recordSearchable(List<PostEvent> events, BulkIndexResult result) {
+        Set<Long> failedIds = result.getFailures().stream()
+                .map(BulkIndexResult.ItemFailure::getPostId)
+                .collect(Collectors.toSet());
+        for (PostEvent event : events) {
+            if (!failedIds.contains(event.getPostId())) {
+                postPipelineMetrics.recordSearchable(event.getVersion());
+            }
+        }
+    }
+
+    /**
+     * 항목별 실패를 원인에 따라 재시도 토픽 또는 DLT로 보냅니다.
+     */
+    private void forwardFailures(List<PostEvent> events, List<BulkIndexResult.ItemFailure> failures) {
+        Map<Long, PostEvent> eventsByPostId = events.stream()
+                .collect(Collectors.toMap(PostEvent::getPostId, Function.identity()));
+        List<PostEvent> retryable = new ArrayList<>();
+        List<PostEvent> nonRetryable = new ArrayList<>();
+        for (BulkIndexResult.ItemFailure failure : failures) {
+            log.warn("Failed to index post document: id={}, status={}, type={}, reason={}",
+                    failure.getPostId(), failure.getStatus(), failure.getType(), failure.getReason());
+            PostEvent event = eventsByPostId.get(failure.getPostId());
+            if (event == null) {
+                continue;
+            }
+            if (failure.isRetryable()) {
+                retryable.add(event);
+            } else {
+                nonRetryable.add(event);
             }
-        } catch (JsonProcessingException e) {
-            log.error("Failed to deserialize message: {}", message, e);
+        }
+        if (!retryable.isEmpty()) {
+            postEventRetryPublisher.sendToRetry(retryable);
+        }
+        if (!nonRetryable.isEmpty()) {
+            postEventRetryPublisher.sendToDeadLetter(nonRetryable);
         }
     }
 }
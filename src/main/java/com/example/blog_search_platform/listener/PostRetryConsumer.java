@@ -0,0 +1,76 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.exception.IndexingFailedException;
+import com.example.blog_search_platform.exception.NonRetryableIndexingException;
+import com.example.blog_search_platform.service.PostIndexingService;
+import com.example.blog_search_platform.service.PostSearchCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 색인에 실패한 이벤트를 지수 백오프로 재시도하는 리스너
+ * 재시도는 지연 시간이 다른 별도 토픽(post-events.retry-0, -1, ...)에서 진행되므로 메인 토픽을 막지 않습니다.
+ * 메인 리스너는 첫 번째 지연 토픽(post-events.retry-0)으로 바로 보내므로, 입구 토픽(post-events.retry)은 재시도 체인을 구성하는 용도입니다.
+ * 모든 재시도에 실패한 이벤트는 post-events.DLT로 이동합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRetryConsumer {
+
+    private final PostIndexingService postIndexingService;
+    private final PostSearchCache postSearchCache;
+    private final PostEventCodec postEventCodec;
+
+    @RetryableTopic(
+            attempts = "${app.kafka.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${app.kafka.retry.initial-delay-ms:1000}",
+                    multiplierExpression = "${app.kafka.retry.multiplier:2.0}",
+                    maxDelayExpression = "${app.kafka.retry.max-delay-ms:60000}"),
+            retryTopicSuffix = "",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            numPartitions = "${app.kafka.topic.partitions:6}",
+            replicationFactor = "${app.kafka.topic.replicas:1}",
+            kafkaTemplate = "kafkaTemplate",
+            listenerContainerFactory = "recordKafkaListenerContainerFactory",
+            exclude = NonRetryableIndexingException.class)
+    @KafkaListener(topics = KafkaTopicConfig.POST_EVENTS_RETRY,
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "recordKafkaListenerContainerFactory")
+    public void consumeRetryEvent(byte[] message) {
+        PostEvent event;
+        try {
+            event = postEventCodec.decode(message);
+        } catch (IllegalArgumentException e) {
+            // 재시도해도 성공할 수 없으므로 바로 DLT로 보냅니다. (exclude 설정)
+            throw new NonRetryableIndexingException("Failed to decode retry message: bytes=" + message.length, e);
+        }
+
+        BulkIndexResult result = postIndexingService.index(List.of(event));
+        if (result.hasFailures()) {
+            BulkIndexResult.ItemFailure failure = result.getFailures().get(0);
+            if (!failure.isRetryable()) {
+                throw new NonRetryableIndexingException("Non-retryable indexing failure: postId=" + event.getPostId()
+                        + ", type=" + failure.getType() + ", reason=" + failure.getReason());
+            }
+            throw new IndexingFailedException("Failed to index post document: postId=" + event.getPostId()
+                    + ", status=" + failure.getStatus() + ", reason=" + failure.getReason());
+        }
+        if (result.getSucceeded() > 0) {
+            postSearchCache.bumpGeneration();
+        }
+        log.info("Post event re-indexed from retry topic: type={}, postId={}", event.getEventType(), event.getPostId());
+    }
+}
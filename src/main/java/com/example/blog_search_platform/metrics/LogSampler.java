@@ -0,0 +1,37 @@
+package com.example.blog_search_platform.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 배치마다 남기던 info 로그를 일정 간격마다 한 번만 남기도록 거르는 클래스
+ * 처리량이 높을 때 로그 포맷팅과 I/O가 처리 시간을 차지하지 않게 하고, 추세는 메트릭으로 확인합니다.
+ * 호출부는 sample()이 false이더라도 debug 로그가 켜져 있으면 모든 배치를 기록합니다.
+ */
+@Component
+public class LogSampler {
+
+    private final long intervalNanos;
+    private final Map<String, AtomicLong> nextLogNanos = new ConcurrentHashMap<>();
+
+    public LogSampler(@Value("${app.logging.sample-interval:10s}") Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * 같은 category의 로그를 마지막으로 남긴 뒤 interval이 지났는지 확인합니다.
+     * @param category 로그 종류 (e.g., kafka-batch)
+     * @return 이번 로그를 남겨야 하면 true
+     */
+    public boolean sample(String category) {
+        AtomicLong next = nextLogNanos.computeIfAbsent(category, key -> new AtomicLong(System.nanoTime()));
+        long now = System.nanoTime();
+        long scheduled = next.get();
+        return now - scheduled >= 0 && next.compareAndSet(scheduled, now + intervalNanos);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.blog_search_platform.metrics;
+
+import com.example.blog_search_platform.listener.PostEventCoalescer;
+import com.example.blog_search_platform.service.PostIndexingService;
+import com.example.blog_search_platform.service.PostReconciler;
+import com.example.blog_search_platform.service.PostSearchCache;
+import com.example.blog_search_platform.service.SearchSingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 각 컴포넌트가 이미 집계하고 있는 누적 값을 Micrometer 메트릭으로 내보내는 클래스
+ * 관리자 API(/api/admin/**)로만 보이던 값을 Prometheus에서 시계열로 확인할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPipelineGauges implements MeterBinder {
+
+    private final PostIndexingService postIndexingService;
+    private final PostEventCoalescer postEventCoalescer;
+    private final PostSearchCache postSearchCache;
+    private final SearchSingleFlight searchSingleFlight;
+    // app.reconcile.enabled=false이면 없습니다.
+    private final ObjectProvider<PostReconciler> postReconciler;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("post.index.stale.writes", postIndexingService, PostIndexingService::getStaleWriteCount)
+                .description("외부 버전 충돌로 거부된(이미 더 최신 상태가 색인된) 쓰기 수")
+                .register(registry);
+        FunctionCounter.builder("post.consumer.coalesced.events", postEventCoalescer, PostEventCoalescer::getCollapsedCount)
+                .description("같은 배치 안에서 더 최신 이벤트로 합쳐져 색인하지 않은 이벤트 수")
+                .register(registry);
+        FunctionCounter.builder("post.search.single-flight.shared", searchSingleFlight, SearchSingleFlight::getSharedCount)
+                .description("진행 중인 같은 검색의 결과를 공유받은 요청 수")
+                .register(registry);
+        FunctionCounter.builder("post.search.cache.stale-misses", postSearchCache, cache -> cache.getStats().getStaleMisses())
+                .description("색인 변경 후 max-staleness가 지나 다시 조회한 캐시 미스 수")
+                .register(registry);
+        Gauge.builder("post.search.cache.size", postSearchCache, cache -> cache.getStats().getSize())
+                .description("검색 결과 캐시에 저장된 항목 수")
+                .register(registry);
+        postReconciler.ifAvailable(reconciler -> bindReconciler(registry, reconciler));
+    }
+
+    private void bindReconciler(MeterRegistry registry, PostReconciler reconciler) {
+        FunctionCounter.builder("post.reconcile.scanned.chunks", reconciler, PostReconciler::getScannedChunks)
+                .description("이 인스턴스가 점검한 묶음 수")
+                .register(registry);
+        FunctionCounter.builder("post.reconcile.drifted.chunks", reconciler, PostReconciler::getDriftedChunks)
+                .description("DB와 검색 인덱스의 요약값이 달랐던 묶음 수")
+                .register(registry);
+        FunctionCounter.builder("post.reconcile.reindexed.posts", reconciler, PostReconciler::getReindexedPosts)
+                .description("인덱스에 없거나 버전이 달라 다시 색인한 게시글 수")
+                .register(registry);
+        FunctionCounter.builder("post.reconcile.deleted.posts", reconciler, PostReconciler::getDeletedPosts)
+                .description("DB에 없어 인덱스에서 삭제한 문서 수")
+                .register(registry);
+        Gauge.builder("post.reconcile.checkpoint", reconciler, PostReconciler::getCheckpointId)
+                .description("이 인스턴스가 마지막으로 옮긴 체크포인트(점검을 마친 마지막 게시글 id, 한 바퀴를 마치면 0)")
+                .register(registry);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.blog_search_platform.metrics;
+
+import com.example.blog_search_platform.document.PostDocument;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 변경이 DB → 아웃박스 → Kafka → Elasticsearch를 거쳐 검색되기까지의 지연과, 검색 지연을 기록하는 클래스
+ * 모든 타이머는 백분위 히스토그램을 함께 내보내므로, Prometheus에서 histogram_quantile로 p99 등을 계산할 수 있습니다.
+ * Kafka 컨슈머의 오프셋 기준 lag(kafka_consumer_fetch_manager_records_lag_max 등)은 Spring Boot가 자동으로 등록합니다.
+ */
+@Component
+public class PostPipelineMetrics {
+
+    public static final String STAGE_DESERIALIZE = "deserialize";
+    public static final String STAGE_COALESCE = "coalesce";
+    public static final String STAGE_DB_FETCH = "db_fetch";
+    public static final String STAGE_ES_WRITE = "es_write";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer publishLatency;
+    private final Timer consumerLag;
+    private final Timer searchableLag;
+    private final DistributionSummary batchSize;
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> searchTimers = new ConcurrentHashMap<>();
+
+    public PostPipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.publishLatency = Timer.builder("post.write.publish.latency")
+                .description("게시글 변경(아웃박스 행 생성)부터 Kafka 전송 확인까지 걸린 시간 (커밋까지의 트랜잭션 시간 포함)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.consumerLag = Timer.builder("post.consumer.lag")
+                .description("Kafka 레코드 타임스탬프부터 컨슈머가 받을 때까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.searchableLag = Timer.builder("post.searchable.lag")
+                .description("게시글 수정 시각(updatedAt)부터 Elasticsearch 반영까지 걸린 시간 (refresh 주기 제외)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("post.consumer.batch.size")
+                .description("한 번의 poll로 받은 레코드 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아웃박스 행이 발행된 지연을 기록합니다.
+     * 기준 시각은 커밋 시각이 아니라 트랜잭션 안에서 행을 만든 시각(PostOutbox.createdAt)이므로, 트랜잭션이 길면 그만큼 지연이 크게 기록됩니다.
+     * @param writtenAt 아웃박스 행을 만든 시각
+     */
+    public void recordPublished(LocalDateTime writtenAt) {
+        publishLatency.record(Duration.between(writtenAt, LocalDateTime.now()));
+    }
+
+    public void recordConsumed(long recordTimestampMillis) {
+        consumerLag.record(Math.max(0, System.currentTimeMillis() - recordTimestampMillis), TimeUnit.MILLISECONDS);
+    }
+
+    public void recordBatchSize(int records) {
+        batchSize.record(records);
+    }
+
+    /**
+     * 색인에 반영된 문서의 외부 버전(수정 시각)으로 반영 지연을 기록합니다.
+     * 버전은 로컬 시각을 UTC로 간주해 만든 값이므로, 현재 시각도 같은 방식으로 변환해서 비교합니다.
+     */
+    public void recordSearchable(Long version) {
+        if (version == null) {
+            return;
+        }
+        long lagMicros = PostDocument.versionOf(LocalDateTime.now()) - version;
+        searchableLag.record(Math.max(0, lagMicros), TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * 파이프라인 단계(deserialize, coalesce, db_fetch, es_write)의 소요 시간을 기록합니다.
+     */
+    public void recordStage(String stage, long startNanos) {
+        stageTimers.computeIfAbsent(stage, key -> Timer.builder("post.pipeline.stage")
+                        .description("색인 파이프라인 단계별 소요 시간")
+                        .tag("stage", key)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 검색 요청의 소요 시간을 검색 종류, 캐시 적중 여부, 결과 건수 구간별로 기록합니다.
+     * @param type 검색 종류 (page, slice, cursor)
+     * @param cache 캐시 적중 여부 (hit, miss, none: 캐시를 쓰지 않는 검색)
+     * @param results 응답에 포함된 게시글 수
+     * @param startNanos 검색을 시작한 시각 (System.nanoTime)
+     */
+    public void recordSearch(String type, String cache, int results, long startNanos) {
+        String bucket = resultBucket(results);
+        searchTimers.computeIfAbsent(type + ':' + cache + ':' + bucket, key -> Timer.builder("post.search")
+                        .description("게시글 검색 소요 시간")
+                        .tag("type", type)
+                        .tag("cache", cache)
+                        .tag("results", bucket)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 태그 값의 종류가 늘어나지 않도록 결과 건수를 구간으로 묶습니다.
+    private static String resultBucket(int results) {
+        if (results == 0) {
+            return "0";
+        }
+        if (results <= 10) {
+            return "1-10";
+        }
+        if (results <= 50) {
+            return "11-50";
+        }
+        return "51+";
+    }
+}
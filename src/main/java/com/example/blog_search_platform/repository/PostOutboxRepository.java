@@ -0,0 +1,40 @@
+package com.example.blog_search_platform.repository;
+
+import com.example.blog_search_platform.domain.PostOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PostOutbox 엔티티에 대한 데이터 접근을 담당하는 리포지토리 인터페이스
+ */
+public interface PostOutboxRepository extends JpaRepository<PostOutbox, Long> {
+
+    /**
+     * 아직 발행되지 않은 이벤트를 id 순서대로 조회합니다.
+     * 여러 인스턴스의 릴레이가 같은 행을 중복 발행하지 않도록, 잠긴 행은 건너뜁니다. (SKIP LOCKED)
+     * @param limit 한 번에 조회할 최대 건수
+     * @return 발행 대기 중인 이벤트 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<PostOutbox> findBySentAtIsNullOrderByIdAsc(Limit limit);
+
+    @Modifying
+    @Query("update PostOutbox o set o.sentAt = :sentAt where o.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("delete from PostOutbox o where o.sentAt < :sentBefore")
+    int deleteSentBefore(@Param("sentBefore") LocalDateTime sentBefore);
+}
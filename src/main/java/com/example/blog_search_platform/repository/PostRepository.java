@@ -2,11 +2,48 @@ package com.example.blog_search_platform.repository;
 
 
 import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.dto.PostResponse;
+import com.example.blog_search_platform.dto.PostVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 /**
  * Post 엔티티에 대한 데이터 접근(CRUD)을 담당하는 리포지토리 인터페이스
  * JpaRepository를 상속받는 것만으로 기본적인 CRUD 메서드가 자동으로 생성됩니다.
  */
 public interface PostRepository extends JpaRepository<Post, Long> { // <엔티티 클래스, ID 타입>
+
+    /**
+     * id 기준 키셋(keyset) 페이징으로 다음 묶음을 조회합니다.
+     * OFFSET을 쓰지 않으므로 테이블 뒤쪽으로 갈수록 느려지지 않습니다.
+     * @param lastId 이전 묶음의 마지막 id (처음에는 0)
+     * @param limit 조회할 최대 건수
+     * @return lastId보다 큰 id를 가진 게시글 목록 (id 오름차순)
+     */
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long lastId, Limit limit);
+
+    /**
+     * id 기준 키셋 페이징으로 다음 묶음을 응답 DTO로 바로 조회합니다.
+     * 엔티티로 조회하면 요청이 끝날 때까지(open-in-view) 영속성 컨텍스트에 쌓이므로, 전체 내보내기처럼 긴 조회에 사용합니다.
+     * @param lastId 이전 묶음의 마지막 id (처음에는 0)
+     * @param limit 조회할 최대 건수
+     * @return lastId보다 큰 id를 가진 게시글 목록 (id 오름차순)
+     */
+    @Query("select new com.example.blog_search_platform.dto.PostResponse(p.id, p.title, p.contents, p.createdAt, p.updatedAt) "
+            + "from Post p where p.id > :lastId order by p.id asc")
+    List<PostResponse> findResponsesAfter(@Param("lastId") Long lastId, Limit limit);
+
+    /**
+     * id 기준 키셋 페이징으로 다음 묶음의 id와 수정 시각만 조회합니다. 검색 인덱스와의 정합성 점검에 사용합니다.
+     * @param lastId 이전 묶음의 마지막 id (처음에는 0)
+     * @param limit 조회할 최대 건수
+     * @return lastId보다 큰 id를 가진 게시글의 id와 버전 목록 (id 오름차순)
+     */
+    @Query("select new com.example.blog_search_platform.dto.PostVersion(p.id, p.updatedAt) "
+            + "from Post p where p.id > :lastId order by p.id asc")
+    List<PostVersion> findVersionsAfter(@Param("lastId") Long lastId, Limit limit);
 }
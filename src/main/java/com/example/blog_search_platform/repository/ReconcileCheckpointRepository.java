@@ -0,0 +1,26 @@
+package com.example.blog_search_platform.repository;
+
+import com.example.blog_search_platform.domain.ReconcileCheckpoint;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Optional;
+
+/**
+ * ReconcileCheckpoint 엔티티에 대한 데이터 접근을 담당하는 리포지토리 인터페이스
+ */
+public interface ReconcileCheckpointRepository extends JpaRepository<ReconcileCheckpoint, String> {
+
+    /**
+     * 체크포인트를 잠근 상태로 조회합니다.
+     * 다른 인스턴스가 같은 체크포인트로 점검 중이면 기다리지 않고 빈 값을 반환합니다. (SKIP LOCKED)
+     * @param name 체크포인트 이름
+     * @return 잠긴 체크포인트 (없거나 다른 인스턴스가 잠근 경우 빈 값)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    Optional<ReconcileCheckpoint> findWithLockByName(String name);
+}
@@ -0,0 +1,97 @@
+package com.example.blog_search_platform.repository.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.CountResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.HighlighterEncoder;
+import com.example.blog_search_platform.config.NoriAnalyzerConfig;
+import com.example.blog_search_platform.document.PostDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 Elasticsearch 클라이언트로 검색하는 클래스
+ * 요청을 보낸 뒤 바로 CompletableFuture를 반환하고, 응답은 클라이언트의 I/O 스레드에서 완료되므로
+ * 여러 검색을 동시에 보내도 요청마다 스레드를 점유하지 않습니다.
+ * 쿼리와 하이라이트 설정은 PostSearchQueryRepository와 같습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostAsyncSearchRepository {
+
+    private final ElasticsearchAsyncClient elasticsearchAsyncClient;
+
+    @Value("${app.search.snippet-length:150}")
+    private int snippetLength;
+
+    @Value("${app.search.timeout:2s}")
+    private Duration searchTimeout;
+
+    /**
+     * from/size 페이징으로 검색합니다. 전체 건수는 count로 따로 세므로 집계하지 않습니다.
+     * @param keyword 검색할 키워드
+     * @param from 건너뛸 문서 수
+     * @param size 반환할 최대 문서 수
+     * @param fullBody true이면 본문 전체를 함께 가져옵니다.
+     * @return 하이라이트된 본문 요약이 포함된 검색 결과
+     */
+    public CompletableFuture<SearchResponse<PostDocument>> search(String keyword, int from, int size, boolean fullBody) {
+        return elasticsearchAsyncClient.search(request -> {
+            request.index(NoriAnalyzerConfig.ALIAS_NAME)
+                    .query(keywordQuery(keyword))
+                    .from(from)
+                    .size(size)
+                    .trackTotalHits(track -> track.enabled(false))
+                    .timeout(searchTimeout.toMillis() + "ms")
+                    .highlight(highlight -> highlight
+                            .preTags("<em>")
+                            .postTags("</em>")
+                            .encoder(HighlighterEncoder.Html)
+                            .fields(PostSearchQueryRepository.SNIPPET_FIELD, field -> field
+                                    .fragmentSize(snippetLength)
+                                    .numberOfFragments(1)
+                                    .noMatchSize(snippetLength)));
+            if (!fullBody) {
+                request.source(source -> source.filter(filter -> filter.includes("id", "title")));
+            }
+            return request;
+        }, PostDocument.class);
+    }
+
+    /**
+     * 키워드와 일치하는 문서의 정확한 수를 셉니다.
+     */
+    public CompletableFuture<CountResponse> count(String keyword) {
+        return elasticsearchAsyncClient.count(request -> request
+                .index(NoriAnalyzerConfig.ALIAS_NAME)
+                .query(keywordQuery(keyword)));
+    }
+
+    /**
+     * 제목의 title.autocomplete 서브 필드에서 접두어로 시작하는 단어를 가진 게시글을 찾습니다.
+     * @see PostSearchQueryRepository#suggest(String, int, Duration)
+     */
+    public CompletableFuture<SearchResponse<PostDocument>> suggest(String prefix, int size, Duration timeout) {
+        return elasticsearchAsyncClient.search(request -> request
+                .index(NoriAnalyzerConfig.ALIAS_NAME)
+                .query(query -> query.match(match -> match
+                        .field("title.autocomplete")
+                        .query(prefix)
+                        .operator(Operator.And)))
+                .source(source -> source.filter(filter -> filter.includes("id", "title")))
+                .size(size)
+                .trackTotalHits(track -> track.enabled(false))
+                .timeout(timeout.toMillis() + "ms")
+                .requestCache(true), PostDocument.class);
+    }
+
+    private static Query keywordQuery(String keyword) {
+        return Query.of(query -> query.multiMatch(match -> match.query(keyword).fields("title", "contents")));
+    }
+}
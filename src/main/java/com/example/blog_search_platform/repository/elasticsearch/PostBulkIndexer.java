@@ -0,0 +1,110 @@
+package com.example.blog_search_platform.repository.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 건의 색인/삭제 요청을 하나의 Elasticsearch _bulk 요청으로 전송하는 클래스
+ * Spring Data 리포지토리는 색인과 삭제를 한 요청에 섞을 수 없으므로, Java 클라이언트를 직접 사용합니다.
+ * 버전이 있는 요청은 외부 버전(version_type=external)으로 전송되어, 더 오래된 상태의 쓰기는 Elasticsearch가 거부합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostBulkIndexer {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private static final String VERSION_CONFLICT = "version_conflict_engine_exception";
+
+    /**
+     * 'posts' 별칭이 가리키는 인덱스로 문서 색인과 삭제를 전송합니다.
+     * @see #bulk(String, List, Map)
+     */
+    public BulkIndexResult bulk(List<PostDocument> documents, Map<Long, Long> deletions) {
+        return bulk(null, documents, deletions);
+    }
+
+    /**
+     * 문서 색인과 삭제를 하나의 _bulk 요청으로 전송합니다.
+     * 색인 요청이 먼저, 삭제 요청이 나중에 실행됩니다.
+     * @param indexName 대상 인덱스 이름 (null이면 'posts' 별칭, 재색인 중에는 새 버전 인덱스)
+     * @param documents 색인(저장/덮어쓰기)할 문서 목록
+     * @param deletions 삭제할 문서 ID와 삭제 버전 (버전이 null이면 버전 없이 삭제합니다)
+     * @return 항목별 실패 정보와 거부된 이전 버전 쓰기 수를 포함한 처리 결과
+     */
+    public BulkIndexResult bulk(String indexName, List<PostDocument> documents, Map<Long, Long> deletions) {
+        if (documents.isEmpty() && deletions.isEmpty()) {
+            return BulkIndexResult.empty();
+        }
+
+        // @Field 매핑 설정이 그대로 반영되도록 Spring Data의 컨버터로 문서를 변환합니다.
+        ElasticsearchConverter converter = elasticsearchOperations.getElasticsearchConverter();
+        List<BulkOperation> operations = new ArrayList<>(documents.size() + deletions.size());
+        for (PostDocument document : documents) {
+            Document source = converter.mapObject(document);
+            operations.add(BulkOperation.of(op -> op.index(idx -> {
+                idx.id(String.valueOf(document.getId())).document(source);
+                if (document.getVersion() != null) {
+                    idx.version(document.getVersion()).versionType(VersionType.External);
+                }
+                return idx;
+            })));
+        }
+        // 버전이 있는 삭제는 해당 버전의 삭제 기록(tombstone)을 남기므로, 늦게 도착한 이전 색인 요청도 거부됩니다.
+        deletions.forEach((deletedId, version) -> operations.add(BulkOperation.of(op -> op.delete(del -> {
+            del.id(String.valueOf(deletedId));
+            if (version != null) {
+                del.version(version).versionType(VersionType.External);
+            }
+            return del;
+        }))));
+
+        BulkResponse response;
+        try {
+            response = elasticsearchClient.bulk(request -> request
+                    .index(indexName != null ? indexName : defaultIndexName())
+                    .operations(operations));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Elasticsearch bulk 요청에 실패했습니다.", e);
+        }
+
+        int stale = 0;
+        List<BulkIndexResult.ItemFailure> failures = new ArrayList<>();
+        if (response.errors()) {
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() == null) {
+                    continue;
+                }
+                if (VERSION_CONFLICT.equals(item.error().type())) {
+                    // 이미 더 최신 버전이 색인되어 있으므로 건너뜁니다.
+                    stale++;
+                } else {
+                    failures.add(new BulkIndexResult.ItemFailure(
+                            Long.valueOf(item.id()), item.status(), item.error().type(), item.error().reason()));
+                }
+            }
+        }
+        return new BulkIndexResult(operations.size(), stale, failures);
+    }
+
+    private String defaultIndexName() {
+        return elasticsearchOperations.getIndexCoordinatesFor(PostDocument.class).getIndexName();
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.blog_search_platform.repository.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.Time;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.HighlighterEncoder;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.example.blog_search_platform.config.NoriAnalyzerConfig;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.exception.SearchTimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 리포지토리의 @Query 메서드로 표현할 수 없는 검색 옵션(search_after, PIT, track_total_hits, 하이라이트)을 사용하는 검색 클래스
+ * from/size 페이징은 깊은 페이지일수록 앞쪽 문서를 모두 정렬해야 하지만,
+ * search_after는 이전 페이지의 마지막 정렬 값 이후만 찾으므로 페이지 깊이와 관계없이 비용이 일정합니다.
+ * 응답의 timed_out을 그대로 읽고 클라이언트 쪽 제한 시간을 걸 수 있도록 비동기 클라이언트로 요청하고,
+ * 호출한 스레드에서는 app.search.client-timeout까지만 응답을 기다립니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchQueryRepository {
+
+    public static final String SNIPPET_FIELD = "contents";
+
+    private final ElasticsearchAsyncClient elasticsearchAsyncClient;
+
+    // 검색 결과에 포함할 본문 요약(snippet)의 최대 길이(문자 수)
+    @Value("${app.search.snippet-length:150}")
+    private int snippetLength;
+
+    // Elasticsearch에 함께 보내는 검색 제한 시간입니다. 넘으면 샤드는 그때까지 찾은 문서만 반환합니다. (부분 결과, timed_out=true)
+    @Value("${app.search.timeout:2s}")
+    private Duration searchTimeout;
+
+    // 클라이언트가 응답을 기다리는 최대 시간입니다. 검색 제한 시간은 샤드의 검색만 멈추므로,
+    // 노드가 응답하지 않을 때 소켓 제한 시간(app.elasticsearch.socket-timeout)까지 기다리지 않도록 따로 둡니다.
+    @Value("${app.search.client-timeout:3s}")
+    private Duration clientTimeout;
+
+    /**
+     * from/size 페이징으로 검색합니다.
+     * @param keyword 검색할 키워드
+     * @param pageable 페이징 정보
+     * @param fullBody true이면 본문 전체를 함께 가져옵니다.
+     * @return 하이라이트된 본문 요약과 정확한 전체 건수가 포함된 검색 결과
+     */
+    public SearchResponse<PostDocument> searchPage(String keyword, Pageable pageable, boolean fullBody) {
+        return await(elasticsearchAsyncClient.search(request -> paged(project(request, keyword, fullBody), pageable)
+                .trackTotalHits(track -> track.enabled(true)), PostDocument.class));
+    }
+
+    /**
+     * 키워드로 검색하되, 주어진 정렬 값 이후의 문서만 반환합니다.
+     * 점수가 같은 문서의 순서가 요청마다 바뀌지 않도록 id를 두 번째 정렬 기준(tiebreaker)으로 사용합니다.
+     * @param keyword 검색할 키워드
+     * @param size 반환할 최대 문서 수
+     * @param searchAfter 이전 페이지 마지막 문서의 정렬 값 (첫 페이지는 null)
+     * @param pitId point-in-time ID (null이면 'posts' 별칭의 최신 상태를 검색)
+     * @param keepAlive PIT 유지 시간
+     * @param fullBody true이면 본문 전체를 함께 가져옵니다.
+     * @return 정렬 값이 포함된 검색 결과
+     */
+    public SearchResponse<PostDocument> searchAfter(String keyword, int size, List<Object> searchAfter,
+                                                    String pitId, Duration keepAlive, boolean fullBody) {
+        return await(elasticsearchAsyncClient.search(request -> {
+            project(request, keyword, fullBody)
+                    .sort(sort -> sort.score(score -> score.order(SortOrder.Desc)))
+                    .sort(sort -> sort.field(field -> field.field("id").order(SortOrder.Asc)))
+                    .size(size)
+                    // 커서 검색은 전체 건수가 필요 없으므로 집계를 생략합니다.
+                    .trackTotalHits(track -> track.enabled(false));
+            if (searchAfter != null) {
+                request.searchAfter(searchAfter.stream().map(PostSearchQueryRepository::toFieldValue).toList());
+            }
+            if (pitId != null) {
+                // PIT가 검색할 인덱스를 정하므로 인덱스를 지정하지 않습니다.
+                request.pit(pit -> pit.id(pitId).keepAlive(time(keepAlive)));
+            } else {
+                request.index(NoriAnalyzerConfig.ALIAS_NAME);
+            }
+            return request;
+        }, PostDocument.class));
+    }
+
+    /**
+     * from/size 페이징으로 검색하되, 전체 건수는 trackTotalHitsUpTo 건까지만 셉니다.
+     * 정확한 전체 건수를 세려면 일치하는 모든 문서를 방문해야 하지만, 상한을 두면 그 이후로는 세지 않고 검색을 끝냅니다.
+     * @param keyword 검색할 키워드
+     * @param pageable 페이징 정보
+     * @param trackTotalHitsUpTo 전체 건수를 셀 상한
+     * @param fullBody true이면 본문 전체를 함께 가져옵니다.
+     * @return 검색 결과 (전체 건수는 상한 이하일 때만 정확하며, 관계(relation)로 구분합니다)
+     */
+    public SearchResponse<PostDocument> searchSlice(String keyword, Pageable pageable, int trackTotalHitsUpTo, boolean fullBody) {
+        return await(elasticsearchAsyncClient.search(request -> paged(project(request, keyword, fullBody), pageable)
+                .trackTotalHits(track -> track.count(trackTotalHitsUpTo)), PostDocument.class));
+    }
+
+    /**
+     * 제목의 title.autocomplete 서브 필드에서 입력한 접두어로 시작하는 단어를 가진 게시글을 찾습니다.
+     * 전체 건수와 본문은 필요 없으므로 id와 title만 가져옵니다.
+     * 지연 시간 상한(timeout)은 Elasticsearch의 검색 제한 시간이자 클라이언트가 응답을 기다리는 최대 시간이므로,
+     * 샤드가 시간 안에 끝내지 못하면 그때까지 찾은 결과(timed_out=true)를, 응답 자체가 늦으면 SearchTimeoutException을 받습니다.
+     * @param prefix 사용자가 입력 중인 검색어
+     * @param size 반환할 최대 문서 수
+     * @param timeout 지연 시간 상한
+     * @return 자동완성 후보 문서
+     */
+    public SearchResponse<PostDocument> suggest(String prefix, int size, Duration timeout) {
+        return await(elasticsearchAsyncClient.search(request -> request
+                .index(NoriAnalyzerConfig.ALIAS_NAME)
+                .query(query -> query.match(match -> match
+                        .field("title.autocomplete")
+                        .query(prefix)
+                        .operator(Operator.And)))
+                .source(source -> source.filter(filter -> filter.includes("id", "title")))
+                .size(size)
+                .trackTotalHits(track -> track.enabled(false))
+                .timeout(timeout.toMillis() + "ms")
+                // 같은 접두어 요청이 반복되므로 샤드 요청 캐시를 사용합니다.
+                .requestCache(true), PostDocument.class), timeout);
+    }
+
+    /**
+     * 'posts' 별칭이 가리키는 인덱스의 현재 상태를 고정하는 point-in-time을 엽니다.
+     * PIT 안에서 이어지는 페이지들은 중간에 색인된 변경의 영향을 받지 않습니다.
+     */
+    public String openPointInTime(Duration keepAlive) {
+        return await(elasticsearchAsyncClient.openPointInTime(request -> request
+                .index(NoriAnalyzerConfig.ALIAS_NAME)
+                .keepAlive(time(keepAlive)))).id();
+    }
+
+    public void closePointInTime(String pitId) {
+        await(elasticsearchAsyncClient.closePointInTime(request -> request.id(pitId)));
+    }
+
+    /**
+     * 검색 결과의 정렬 값을 다음 요청의 searchAfter로 넘길 수 있는 값으로 바꿉니다. (커서에 JSON으로 저장됩니다)
+     */
+    public static List<Object> sortValues(Hit<?> hit) {
+        return hit.sort().stream().map(FieldValue::_get).toList();
+    }
+
+    /**
+     * 검색 결과로 가져올 필드를 정합니다.
+     * 기본적으로 _source에서는 id와 title만 가져오고, 본문은 검색어 주변의 요약만 하이라이트로 받아
+     * 긴 본문이 Elasticsearch fetch, 네트워크, JSON 직렬화 비용을 차지하지 않게 합니다.
+     * 하이라이트는 contents 필드의 분석기(nori_analyzer_custom)로 검색어를 찾으므로, 형태소 단위로 일치한 부분이 표시됩니다.
+     * 본문에 일치하는 부분이 없으면(제목만 일치) 본문 앞부분을 요약으로 사용합니다.
+     * 검색 제한 시간(app.search.timeout)도 함께 지정합니다.
+     */
+    private SearchRequest.Builder project(SearchRequest.Builder request, String keyword, boolean fullBody) {
+        request.query(keywordQuery(keyword))
+                .timeout(searchTimeout.toMillis() + "ms")
+                .highlight(highlight -> highlight
+                        .preTags("<em>")
+                        .postTags("</em>")
+                        // 본문의 HTML을 이스케이프해서, 요약을 그대로 화면에 넣어도 안전하게 합니다.
+                        .encoder(HighlighterEncoder.Html)
+                        .fields(SNIPPET_FIELD, field -> field
+                                .fragmentSize(snippetLength)
+                                .numberOfFragments(1)
+                                .noMatchSize(snippetLength)));
+        if (!fullBody) {
+            request.source(source -> source.filter(filter -> filter.includes("id", "title")));
+        }
+        return request;
+    }
+
+    /**
+     * 'posts' 별칭에서 pageable의 위치와 정렬로 검색하도록 지정합니다.
+     */
+    private SearchRequest.Builder paged(SearchRequest.Builder request, Pageable pageable) {
+        request.index(NoriAnalyzerConfig.ALIAS_NAME)
+                .from((int) pageable.getOffset())
+                .size(pageable.getPageSize());
+        for (Sort.Order order : pageable.getSort()) {
+            request.sort(sort -> sort.field(field -> field
+                    .field(order.getProperty())
+                    .order(order.isAscending() ? SortOrder.Asc : SortOrder.Desc)));
+        }
+        return request;
+    }
+
+    /**
+     * 클라이언트 쪽 제한 시간(app.search.client-timeout)까지만 응답을 기다립니다.
+     * @see #await(CompletableFuture, Duration)
+     */
+    private <T> T await(CompletableFuture<T> request) {
+        return await(request, clientTimeout);
+    }
+
+    /**
+     * deadline까지만 응답을 기다립니다.
+     * 제한 시간을 넘으면 요청을 취소해서 클라이언트가 HTTP 요청을 중단하고 연결을 돌려받게 합니다.
+     * @throws SearchTimeoutException 제한 시간 안에 응답을 받지 못한 경우
+     */
+    private <T> T await(CompletableFuture<T> request, Duration deadline) {
+        try {
+            return request.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            request.cancel(true);
+            throw new SearchTimeoutException("검색 응답 대기 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            request.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * PostSearchRepository.findByKeyword와 같은 multi_match 쿼리를 만듭니다.
+     */
+    private static Query keywordQuery(String keyword) {
+        return Query.of(query -> query.multiMatch(match -> match.query(keyword).fields("title", "contents")));
+    }
+
+    private static Time time(Duration duration) {
+        return Time.of(time -> time.time(duration.toMillis() + "ms"));
+    }
+
+    /**
+     * 커서에서 읽은 정렬 값을 되돌립니다. JSON을 거치면서 점수는 Double, id는 Integer나 Long이 됩니다.
+     */
+    private static FieldValue toFieldValue(Object value) {
+        if (value == null) {
+            return FieldValue.NULL;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return FieldValue.of(((Number) value).doubleValue());
+        }
+        if (value instanceof Number number) {
+            return FieldValue.of(number.longValue());
+        }
+        if (value instanceof Boolean bool) {
+            return FieldValue.of(bool);
+        }
+        return FieldValue.of(value.toString());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.blog_search_platform.repository.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.PostVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * id 구간에 색인된 문서의 id와 버전만 조회하는 클래스
+ * DB와 검색 인덱스의 정합성을 점검할 때, 본문 없이 가볍게 비교하기 위해 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostVersionScanRepository {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    /**
+     * afterId보다 크고 upToId 이하인 id를 가진 문서의 id와 버전을 id 오름차순으로 조회합니다.
+     * @param afterId 구간의 시작 (이 id는 포함하지 않습니다)
+     * @param upToId 구간의 끝 (포함, null이면 끝까지)
+     * @param size 반환할 최대 문서 수
+     * @return 문서의 id와 버전 목록 (id 오름차순)
+     */
+    public List<PostVersion> findVersions(long afterId, Long upToId, int size) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.range(range -> range.number(number -> {
+                    number.field("id").gt((double) afterId);
+                    if (upToId != null) {
+                        number.lte((double) upToId);
+                    }
+                    return number;
+                })))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("id", "version").build())
+                .withSort(sort -> sort.field(field -> field.field("id").order(SortOrder.Asc)))
+                .withMaxResults(size)
+                .withTrackTotalHits(false)
+                .build();
+        return elasticsearchOperations.search(query, PostDocument.class).getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(document -> new PostVersion(document.getId(), document.getVersion()))
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.dto.DeadLetterReplayResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * post-events.DLT에 쌓인 이벤트를 post-events로 다시 보내는 서비스
+ * 전용 컨슈머 그룹의 커밋 오프셋부터 읽으므로, 한 번 재처리한 레코드는 다시 재처리되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterReplayService {
+
+    private static final String REPLAY_GROUP_ID = "blog-search-dlt-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Value("${app.kafka.retry.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    /**
+     * DLT의 레코드를 최대 maxRecords 건까지 원래 토픽으로 다시 발행합니다.
+     * 한 번의 poll 단위로 묶어서 전송하고, 전송이 확인된 뒤에 재발행한 레코드까지만 오프셋을 커밋합니다.
+     * poll로 받은 레코드가 남은 건수보다 많으면 나머지는 커밋하지 않으므로, 다음 요청에서 이어서 재처리됩니다.
+     * @param maxRecords 이번 요청에서 재처리할 최대 레코드 수
+     * @return 재발행한 레코드 수 (maxRecords가 0 이하이거나 DLT 토픽이 아직 없으면 재처리할 레코드가 없다는 결과)
+     */
+    public DeadLetterReplayResponse replay(int maxRecords) {
+        if (maxRecords <= 0) {
+            // max.poll.records는 1 이상이어야 하므로, 컨슈머를 만들지 않고 끝냅니다.
+            return DeadLetterReplayResponse.nothingToReplay("maxRecords는 1 이상이어야 합니다.");
+        }
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(Math.min(maxRecords, 500)));
+
+        int replayed = 0;
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(REPLAY_GROUP_ID, "dlt-replay", null, overrides)) {
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(KafkaTopicConfig.POST_EVENTS_DLT);
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                // 아직 한 번도 DLT로 보낸 이벤트가 없어 토픽이 만들어지지 않은 경우입니다.
+                log.info("Dead-letter topic does not exist yet, nothing to replay: topic={}", KafkaTopicConfig.POST_EVENTS_DLT);
+                return DeadLetterReplayResponse.nothingToReplay();
+            }
+            consumer.assign(partitionInfos.stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList());
+
+            while (replayed < maxRecords) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+                List<CompletableFuture<?>> futures = new ArrayList<>(records.count());
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (replayed + futures.size() >= maxRecords) {
+                        break;
+                    }
+                    futures.add(kafkaTemplate.send(KafkaTopicConfig.POST_EVENTS, record.key(), record.value()));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                        .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                consumer.commitSync(offsets);
+                replayed += futures.size();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while replaying dead-letter records", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to replay dead-letter records: replayed=" + replayed, e);
+        }
+        log.info("Dead-letter records replayed to {}: count={}", KafkaTopicConfig.POST_EVENTS, replayed);
+        return new DeadLetterReplayResponse(replayed);
+    }
+}
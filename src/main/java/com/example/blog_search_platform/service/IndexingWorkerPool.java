@@ -0,0 +1,69 @@
+package com.example.blog_search_platform.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 한 컨슈머가 받은 배치를 여러 스레드에서 나눠 색인하기 위한 작업자 풀
+ * 배치를 postId 기준으로 나누므로, 같은 게시글의 이벤트는 항상 같은 작업에서 순서대로 처리됩니다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21 이상)에서는 작업마다 가상 스레드를 만들되,
+ * 동시에 실행되는 작업 수는 workers로 제한해서 Elasticsearch로 보내는 _bulk 요청 수가 늘어나지 않게 합니다.
+ */
+@Component
+public class IndexingWorkerPool {
+
+    private final Executor executor;
+    private final int workers;
+    private final int minShardSize;
+
+    public IndexingWorkerPool(@Value("${app.kafka.consumer.workers:4}") int workers,
+                              @Value("${app.kafka.consumer.min-shard-size:100}") int minShardSize,
+                              Environment environment) {
+        this.workers = workers;
+        this.minShardSize = minShardSize;
+        this.executor = Threading.VIRTUAL.isActive(environment)
+                ? virtualThreadExecutor(workers)
+                : Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("indexing-worker-"));
+    }
+
+    private static Executor virtualThreadExecutor(int workers) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("indexing-worker-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(workers);
+        return executor;
+    }
+
+    /**
+     * 배치 크기에 맞는 분할 수를 계산합니다.
+     * 작은 배치는 나누지 않아야 _bulk 요청 수가 불필요하게 늘어나지 않습니다.
+     * @param batchSize 배치에 포함된 이벤트 수
+     * @return 1 이상 workers 이하의 분할 수
+     */
+    public int shardsFor(int batchSize) {
+        return Math.max(1, Math.min(workers, batchSize / Math.max(1, minShardSize)));
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor asyncTaskExecutor) {
+            asyncTaskExecutor.close();
+        }
+    }
+}
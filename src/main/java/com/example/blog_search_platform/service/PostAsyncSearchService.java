@@ -0,0 +1,110 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch.core.CountResponse;
+import com.example.blog_search_platform.dto.PostSearchOverviewResponse;
+import com.example.blog_search_platform.dto.PostSearchResponse;
+import com.example.blog_search_platform.dto.PostSuggestionResponse;
+import com.example.blog_search_platform.exception.SearchTimeoutException;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.repository.elasticsearch.PostAsyncSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 검색 결과, 전체 건수, 자동완성 후보를 Elasticsearch에 동시에 요청하고 합쳐서 반환하는 서비스
+ * 세 요청은 비동기 클라이언트로 한꺼번에 보내므로 응답 시간은 가장 느린 요청 하나에 가깝고,
+ * 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다. (컨트롤러가 CompletableFuture를 반환하면 Spring MVC가 비동기로 응답합니다)
+ * 결과 변환은 가벼운 작업이므로 클라이언트의 I/O 스레드에서 그대로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostAsyncSearchService {
+
+    private final PostAsyncSearchRepository postAsyncSearchRepository;
+    private final PostPipelineMetrics postPipelineMetrics;
+    private final SearchGuard searchGuard;
+
+    // 세 요청을 모두 합칠 때까지 기다리는 최대 시간
+    @Value("${app.search.async.timeout:3s}")
+    private Duration timeout;
+
+    @Value("${app.suggest.timeout:50ms}")
+    private Duration suggestTimeout;
+
+    @Value("${app.suggest.max-size:10}")
+    private int suggestMaxSize;
+
+    /**
+     * 키워드로 검색한 페이지, 정확한 전체 건수, 키워드로 시작하는 제목의 자동완성 후보를 함께 조회합니다.
+     * 자동완성은 부가 정보이므로 실패하면 빈 목록으로 대신하고, 검색이나 건수 조회가 실패하면 전체 요청이 실패합니다.
+     * 동기 검색과 같은 회로 차단기와 동시 실행 제한을 거치며, 회로가 열려 있으면 Elasticsearch에 요청하지 않습니다.
+     * @param keyword 검색할 키워드
+     * @param pageable 페이징 정보
+     * @param suggestSize 반환할 최대 자동완성 후보 수 (최대 app.suggest.max-size)
+     * @param fullBody true이면 본문 전체를 함께 가져옵니다.
+     * @return 합쳐진 검색 결과 (app.search.async.timeout 안에 모두 받지 못하면 SearchTimeoutException으로 완료됩니다)
+     */
+    public CompletableFuture<PostSearchOverviewResponse> search(String keyword, Pageable pageable, int suggestSize, boolean fullBody) {
+        return searchGuard.executeAsync(() -> fanOut(keyword, pageable, suggestSize, fullBody));
+    }
+
+    private CompletableFuture<PostSearchOverviewResponse> fanOut(String keyword, Pageable pageable, int suggestSize, boolean fullBody) {
+        long start = System.nanoTime();
+        CompletableFuture<List<PostSearchResponse>> hits = postAsyncSearchRepository
+                .search(keyword, (int) pageable.getOffset(), pageable.getPageSize(), fullBody)
+                .thenApply(response -> response.hits().hits().stream()
+                        .map(PostSearchResponse::from)
+                        .toList());
+        CompletableFuture<Long> totalHits = postAsyncSearchRepository.count(keyword)
+                .thenApply(CountResponse::count);
+        CompletableFuture<List<PostSuggestionResponse>> suggestions = suggest(keyword, suggestSize);
+
+        return hits.thenCombine(totalHits, (content, total) -> PostSearchOverviewResponse.builder()
+                        .content(content)
+                        .page(pageable.getPageNumber())
+                        .size(pageable.getPageSize())
+                        .totalHits(total))
+                .thenCombine(suggestions, (builder, suggested) -> builder.suggestions(suggested).build())
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((response, e) -> {
+                    if (e == null) {
+                        postPipelineMetrics.recordSearch("async", "none", response.getContent().size(), start);
+                        return response;
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        throw new SearchTimeoutException("검색 응답 대기 시간이 초과되었습니다.");
+                    }
+                    throw e instanceof CompletionException completionException
+                            ? completionException
+                            : new CompletionException(cause);
+                });
+    }
+
+    private CompletableFuture<List<PostSuggestionResponse>> suggest(String keyword, int size) {
+        String prefix = PostSearchCache.normalize(keyword);
+        if (prefix.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        int limit = Math.max(1, Math.min(size, suggestMaxSize));
+        return postAsyncSearchRepository.suggest(prefix, limit, suggestTimeout)
+                .thenApply(response -> response.hits().hits().stream()
+                        .map(hit -> PostSuggestionResponse.from(hit.source()))
+                        .toList())
+                .exceptionally(e -> {
+                    log.warn("Suggest query failed, returning no suggestions: prefix={}", prefix, e);
+                    return List.of();
+                });
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.dto.BulkItemResult;
+import com.example.blog_search_platform.dto.PostCreateRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량의 게시글 등록 요청을 스트리밍으로 처리하는 서비스
+ * 요청 본문(JSON 배열 또는 NDJSON)을 한 건씩 읽어 chunk-size 단위로 저장하고, 항목별 결과를 바로 응답에 씁니다.
+ * 메모리에는 한 묶음만 올라가므로, 요청 크기와 관계없이 사용하는 메모리가 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostBulkImportService {
+
+    // Post.title 컬럼 길이
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    private final PostService postService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 요청 본문의 게시글을 모두 저장하고, 항목별 결과를 한 줄씩 씁니다.
+     * 본문의 JSON 형식이 깨진 경우, 그 위치의 오류를 기록하고 이후 항목은 처리하지 않습니다.
+     * @param body JSON 배열 또는 줄 단위 JSON(NDJSON) 형식의 PostCreateRequest 목록
+     * @param output 항목별 결과(BulkItemResult)를 NDJSON으로 쓸 스트림
+     */
+    public void importPosts(InputStream body, OutputStream output) throws IOException {
+        List<PostCreateRequest> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        try (MappingIterator<PostCreateRequest> requests = objectMapper.readerFor(PostCreateRequest.class).readValues(body);
+             SequenceWriter results = objectMapper.writer().withRootValueSeparator("\n").writeValues(output)) {
+            while (true) {
+                PostCreateRequest request;
+                try {
+                    if (!requests.hasNextValue()) {
+                        break;
+                    }
+                    request = requests.nextValue();
+                } catch (JsonProcessingException e) {
+                    results.write(BulkItemResult.failed(index, 400, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage()));
+                    break;
+                }
+
+                String error = validate(request);
+                if (error != null) {
+                    results.write(BulkItemResult.failed(index, 400, error));
+                } else {
+                    chunk.add(request);
+                    chunkIndexes.add(index);
+                }
+                index++;
+
+                if (chunk.size() == chunkSize) {
+                    saveChunk(chunk, chunkIndexes, results);
+                }
+            }
+            saveChunk(chunk, chunkIndexes, results);
+            // NDJSON은 마지막 줄도 줄바꿈으로 끝나야 합니다.
+            results.flush();
+            output.write('\n');
+        }
+        log.info("Bulk import finished: items={}", index);
+    }
+
+    /**
+     * 한 묶음을 하나의 트랜잭션으로 저장하고 결과를 씁니다.
+     */
+    private void saveChunk(List<PostCreateRequest> chunk, List<Integer> chunkIndexes, SequenceWriter results) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        save(List.copyOf(chunk), List.copyOf(chunkIndexes), results);
+        // 클라이언트가 진행 상황을 바로 볼 수 있도록 묶음마다 내보냅니다.
+        results.flush();
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    /**
+     * 게시글을 하나의 트랜잭션으로 저장합니다. 저장에 실패하면 절반씩 나눠 다시 저장해서, 실패의 원인인 항목만 실패로 기록합니다.
+     * DB 연결 장애처럼 항목과 관계없는 일시적인 실패는 나눠도 다시 실패하므로, 나누지 않고 전체를 503으로 기록합니다.
+     * 실패 원인(SQL, 제약 조건 이름 등)은 로그에만 남기고 응답에는 담지 않습니다.
+     */
+    private void save(List<PostCreateRequest> requests, List<Integer> indexes, SequenceWriter results) throws IOException {
+        try {
+            List<Long> ids = postService.createPosts(requests);
+            for (int i = 0; i < ids.size(); i++) {
+                results.write(BulkItemResult.created(indexes.get(i), ids.get(i)));
+            }
+        } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+            log.warn("Failed to save bulk chunk: firstIndex={}, size={}", indexes.get(0), requests.size(), e);
+            for (Integer failedIndex : indexes) {
+                results.write(BulkItemResult.failed(failedIndex, 503, "일시적인 오류로 저장하지 못했습니다. 다시 시도해 주세요."));
+            }
+        } catch (RuntimeException e) {
+            if (requests.size() == 1) {
+                log.warn("Failed to save bulk item: index={}", indexes.get(0), e);
+                results.write(BulkItemResult.failed(indexes.get(0), 500, "저장에 실패했습니다."));
+                return;
+            }
+            int half = requests.size() / 2;
+            save(requests.subList(0, half), indexes.subList(0, half), results);
+            save(requests.subList(half, requests.size()), indexes.subList(half, indexes.size()), results);
+        }
+    }
+
+    private String validate(PostCreateRequest request) {
+        if (request == null || request.getTitle() == null || request.getTitle().isBlank()) {
+            return "title은 필수입니다.";
+        }
+        if (request.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "title은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.";
+        }
+        if (request.getContents() == null) {
+            return "contents는 필수입니다.";
+        }
+        return null;
+    }
+}
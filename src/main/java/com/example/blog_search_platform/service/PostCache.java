@@ -0,0 +1,81 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.dto.PostResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 조회 결과(PostResponse)를 애플리케이션 메모리에 보관하는 읽기 캐시
+ * 게시글마다 본문 크기가 크게 다르므로, 항목 수가 아니라 제목과 본문의 전체 크기(byte)로 메모리 사용량을 제한합니다.
+ * 변경 시에는 커밋 직후 로컬 캐시를 비우고, 다른 인스턴스는 post-events를 구독해 같은 게시글을 비웁니다.
+ */
+@Component
+public class PostCache {
+
+    // PostResponse 객체와 캐시 항목 자체가 차지하는 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final Cache<Long, PostResponse> cache;
+
+    public PostCache(@Value("${app.post-cache.max-size:64MB}") DataSize maxSize,
+                     @Value("${app.post-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long postId, PostResponse post) -> weigh(post))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader로 조회해 저장합니다.
+     * 같은 게시글을 동시에 조회하면 loader는 한 번만 실행됩니다. loader가 던진 예외(e.g., 존재하지 않는 게시글)는 캐시되지 않습니다.
+     */
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        return cache.get(postId, loader);
+    }
+
+    public void invalidate(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    public void invalidateAll(Collection<Long> postIds) {
+        cache.invalidateAll(postIds);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 캐시를 비웁니다.
+     * 커밋 전에 비우면, 그 사이 다른 요청이 커밋 전의 상태를 다시 캐시에 넣을 수 있습니다.
+     * 트랜잭션 밖에서 호출되면 바로 비웁니다.
+     */
+    public void invalidateAfterCommit(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(postId);
+            }
+        });
+    }
+
+    /**
+     * 문자열은 최대 2byte/문자(UTF-16)로 계산해, 한글 본문이 많아도 실제 사용량이 상한을 넘지 않게 합니다.
+     */
+    private static int weigh(PostResponse post) {
+        long chars = (post.getTitle() == null ? 0 : post.getTitle().length())
+                + (post.getContents() == null ? 0 : post.getContents().length());
+        return (int) Math.min(Integer.MAX_VALUE, chars * 2 + ENTRY_OVERHEAD_BYTES);
+    }
+}
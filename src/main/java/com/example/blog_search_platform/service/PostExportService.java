@@ -0,0 +1,124 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.PostResponse;
+import com.example.blog_search_platform.dto.PostSearchResponse;
+import com.example.blog_search_platform.repository.PostRepository;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시글 전체 또는 검색 결과 전체를 NDJSON으로 내보내는 서비스
+ * 한 번에 chunk-size 건씩만 조회해서 바로 응답에 쓰므로, 전체 건수와 관계없이 사용하는 메모리가 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+
+    private final PostRepository postRepository;
+    private final PostSearchQueryRepository postSearchQueryRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.search.cursor.pit-keep-alive:1m}")
+    private Duration pitKeepAlive;
+
+    /**
+     * DB의 모든 게시글을 id 순서대로 한 줄에 하나씩 씁니다.
+     * id 기준 키셋 페이징으로 읽으므로, 내보내는 도중 추가된 게시글도 id가 더 크면 포함됩니다.
+     * @param output 게시글(PostResponse)을 NDJSON으로 쓸 스트림
+     * @return 내보낸 게시글 수
+     */
+    public long exportPosts(OutputStream output) throws IOException {
+        long exported = 0;
+        long lastId = 0L;
+        try (SequenceWriter writer = ndjsonWriter(output)) {
+            while (true) {
+                List<PostResponse> chunk = postRepository.findResponsesAfter(lastId, Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                writer.writeAll(chunk);
+                writer.flush();
+                exported += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            endNdjson(writer, output);
+        }
+        log.info("Post export finished: exported={}", exported);
+        return exported;
+    }
+
+    /**
+     * 검색어와 일치하는 모든 문서를 관련도 순서대로 한 줄에 하나씩 씁니다.
+     * PIT를 열어 내보내는 동안 같은 시점의 인덱스를 search_after로 이어서 읽으므로, 도중의 색인 변경에 영향을 받지 않습니다.
+     * @param keyword 검색할 키워드
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 씁니다.
+     * @param output 검색 결과(PostSearchResponse)를 NDJSON으로 쓸 스트림
+     * @return 내보낸 문서 수
+     */
+    public long exportSearchHits(String keyword, boolean fullBody, OutputStream output) throws IOException {
+        long exported = 0;
+        String pitId = postSearchQueryRepository.openPointInTime(pitKeepAlive);
+        try (SequenceWriter writer = ndjsonWriter(output)) {
+            List<Object> searchAfter = null;
+            while (true) {
+                SearchResponse<PostDocument> searchResponse = postSearchQueryRepository.searchAfter(
+                        keyword, chunkSize, searchAfter, pitId, pitKeepAlive, fullBody);
+                // Elasticsearch는 요청마다 갱신된 PIT ID를 돌려줄 수 있으므로, 다음 요청에는 응답의 값을 사용합니다.
+                if (searchResponse.pitId() != null) {
+                    pitId = searchResponse.pitId();
+                }
+                List<Hit<PostDocument>> hits = searchResponse.hits().hits();
+                for (Hit<PostDocument> hit : hits) {
+                    writer.write(PostSearchResponse.from(hit));
+                }
+                writer.flush();
+                exported += hits.size();
+                if (hits.size() < chunkSize) {
+                    break;
+                }
+                searchAfter = PostSearchQueryRepository.sortValues(hits.get(hits.size() - 1));
+            }
+            endNdjson(writer, output);
+        } finally {
+            // 첫 검색이나 쓰기에 실패한 경우에도 PIT를 바로 닫습니다.
+            // 닫기 실패가 원래 예외를 가리지 않도록 기록만 하고 넘어갑니다(PIT는 keep-alive가 지나면 자동으로 닫힙니다).
+            try {
+                postSearchQueryRepository.closePointInTime(pitId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to close point-in-time after export: pitId={}", pitId, e);
+            }
+        }
+        log.info("Search hit export finished: exported={}", exported);
+        return exported;
+    }
+
+    private SequenceWriter ndjsonWriter(OutputStream output) throws IOException {
+        return objectMapper.writer().withRootValueSeparator("\n").writeValues(output);
+    }
+
+    /**
+     * NDJSON은 마지막 줄도 줄바꿈으로 끝나야 하므로, 버퍼를 비운 뒤 줄바꿈을 씁니다.
+     */
+    private void endNdjson(SequenceWriter writer, OutputStream output) throws IOException {
+        writer.flush();
+        output.write('\n');
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.repository.PostRepository;
+import com.example.blog_search_platform.repository.elasticsearch.PostBulkIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 변경 이벤트를 Elasticsearch 색인에 반영하는 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class PostIndexingService {
+
+    private final PostRepository postRepository;
+    private final PostBulkIndexer postBulkIndexer;
+    private final IndexingWorkerPool indexingWorkerPool;
+    private final PostPipelineMetrics postPipelineMetrics;
+
+    private final AtomicLong staleWriteCount = new AtomicLong();
+
+    /**
+     * 이벤트 묶음을 Elasticsearch에 반영합니다.
+     * 배치가 충분히 크면 postId 기준으로 나누어 작업자 풀에서 동시에 처리하고, 모든 작업이 끝날 때까지 기다립니다.
+     * 같은 postId는 항상 같은 조각에 들어가므로 게시글 단위의 순서는 유지됩니다.
+     * @param events 반영할 이벤트 목록
+     * @return 모든 조각의 처리 결과를 합친 결과
+     */
+    public BulkIndexResult index(List<PostEvent> events) {
+        return index(events, null);
+    }
+
+    /**
+     * 이벤트 묶음을 지정한 인덱스에 반영합니다. 재색인 중 새 버전 인덱스를 따라잡을 때 사용합니다.
+     * @param events 반영할 이벤트 목록
+     * @param indexName 대상 인덱스 이름 (null이면 'posts' 별칭)
+     * @return 모든 조각의 처리 결과를 합친 결과
+     */
+    public BulkIndexResult index(List<PostEvent> events, String indexName) {
+        int shards = indexingWorkerPool.shardsFor(events.size());
+        if (shards <= 1) {
+            return indexShard(events, indexName);
+        }
+
+        List<List<PostEvent>> partitions = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (PostEvent event : events) {
+            partitions.get(Math.floorMod(event.getPostId().hashCode(), shards)).add(event);
+        }
+
+        List<CompletableFuture<BulkIndexResult>> futures = partitions.stream()
+                .map(partition -> indexingWorkerPool.submit(() -> indexShard(partition, indexName)))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return BulkIndexResult.merge(futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * 이벤트 묶음을 한 번에 Elasticsearch에 반영합니다.
+     * 스냅샷이 포함된 이벤트는 DB 조회 없이 바로 문서로 변환하고,
+     * 스냅샷이 없는 CREATED/UPDATED 이벤트의 게시글만 findAllById 한 번으로 조회합니다.
+     * 색인과 삭제는 하나의 _bulk 요청으로 전송하며, 외부 버전보다 오래된 쓰기는 거부되어 stale로 집계됩니다.
+     * @param events 반영할 이벤트 목록
+     * @return bulk 요청의 처리 결과 (항목별 실패 포함)
+     */
+    private BulkIndexResult indexShard(List<PostEvent> events, String indexName) {
+        Map<Long, PostDocument> snapshots = new LinkedHashMap<>();
+        Set<Long> lookupIds = new LinkedHashSet<>();
+        Map<Long, Long> deletions = new LinkedHashMap<>();
+        for (PostEvent event : events) {
+            if (event.getEventType() == PostEvent.EventType.DELETED) {
+                deletions.put(event.getPostId(), event.getVersion());
+            } else if (event.hasSnapshot()) {
+                snapshots.put(event.getPostId(), PostDocument.from(event));
+            } else {
+                lookupIds.add(event.getPostId());
+            }
+        }
+        // 같은 묶음 안에서 삭제된 게시글은 다시 조회하거나 색인할 필요가 없습니다.
+        snapshots.keySet().removeAll(deletions.keySet());
+        lookupIds.removeAll(deletions.keySet());
+        lookupIds.removeAll(snapshots.keySet());
+
+        List<PostDocument> documents = new ArrayList<>(snapshots.values());
+        if (!lookupIds.isEmpty()) {
+            long fetchStart = System.nanoTime();
+            postRepository.findAllById(lookupIds).forEach(post -> documents.add(PostDocument.from(post)));
+            postPipelineMetrics.recordStage(PostPipelineMetrics.STAGE_DB_FETCH, fetchStart);
+        }
+        long writeStart = System.nanoTime();
+        BulkIndexResult result = postBulkIndexer.bulk(indexName, documents, deletions);
+        postPipelineMetrics.recordStage(PostPipelineMetrics.STAGE_ES_WRITE, writeStart);
+        staleWriteCount.addAndGet(result.getStale());
+        return result;
+    }
+
+    /**
+     * 외부 버전 충돌로 거부된(이미 더 최신 상태가 색인된) 쓰기의 누적 개수를 반환합니다.
+     */
+    public long getStaleWriteCount() {
+        return staleWriteCount.get();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.domain.PostOutbox;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.metrics.LogSampler;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.repository.PostOutboxRepository;
+import com.example.blog_search_platform.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스에 쌓인 이벤트를 id 순서대로 묶어서 Kafka로 발행하는 릴레이
+ * 요청 스레드는 아웃박스 행만 저장하고, 직렬화와 전송 비용은 이 백그라운드 작업이 부담합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class PostOutboxRelay {
+
+    private final PostOutboxRepository postOutboxRepository;
+    private final PostRepository postRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final PostEventCodec postEventCodec;
+    private final TransactionTemplate transactionTemplate;
+    private final PostPipelineMetrics postPipelineMetrics;
+    private final LogSampler logSampler;
+
+    @Value("${app.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    @Value("${app.outbox.retention:10m}")
+    private Duration retention;
+
+    // true이면 게시글 스냅샷(title, contents, updatedAt)을 이벤트에 담아 컨슈머의 DB 재조회를 생략합니다.
+    @Value("${app.kafka.producer.fat-events:true}")
+    private boolean fatEvents;
+
+    /**
+     * 발행 대기 중인 이벤트가 없을 때까지 배치 단위로 발행합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval:100ms}")
+    public void relay() {
+        int relayed;
+        do {
+            Integer count = transactionTemplate.execute(status -> relayBatch());
+            relayed = count == null ? 0 : count;
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * 발행이 끝난 아웃박스 행 중 보관 기간이 지난 행을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:1m}")
+    public void purge() {
+        LocalDateTime sentBefore = LocalDateTime.now().minus(retention);
+        Integer purged = transactionTemplate.execute(status -> postOutboxRepository.deleteSentBefore(sentBefore));
+        if (purged != null && purged > 0) {
+            log.info("Purged sent outbox rows: count={}", purged);
+        }
+    }
+
+    /**
+     * 한 배치를 발행하고, 전송이 확인된 행을 발행 완료로 표시합니다.
+     * 순서를 지키기 위해 전송에 실패한 행부터는 표시하지 않고 다음 배치에서 다시 발행합니다.
+     * @return 발행 완료로 표시된 행의 수
+     */
+    private int relayBatch() {
+        List<PostOutbox> batch = postOutboxRepository.findBySentAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Post> snapshots = fatEvents ? loadSnapshots(batch) : Map.of();
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(batch.size());
+        for (PostOutbox outbox : batch) {
+            // postId를 키로 사용해 같은 게시글의 이벤트가 항상 같은 파티션에 순서대로 쌓이게 합니다.
+            String key = String.valueOf(outbox.getPostId());
+            futures.add(kafkaTemplate.send(KafkaTopicConfig.POST_EVENTS, key, postEventCodec.encode(toEvent(outbox, snapshots))));
+        }
+
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                sentIds.add(batch.get(i).getId());
+                postPipelineMetrics.recordPublished(batch.get(i).getCreatedAt());
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                log.warn("Failed to relay outbox event, will retry: outboxId={}", batch.get(i).getId(), e);
+                break;
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            postOutboxRepository.markSent(sentIds, LocalDateTime.now());
+        }
+        if (logSampler.sample("outbox-relay") || log.isDebugEnabled()) {
+            log.info("Outbox batch relayed: fetched={}, sent={}", batch.size(), sentIds.size());
+        }
+        return sentIds.size();
+    }
+
+    /**
+     * 배치에 포함된 CREATED/UPDATED 이벤트의 게시글을 한 번에 조회합니다.
+     * 발행 시점의 최신 상태가 스냅샷이 되며, 그 사이 삭제된 게시글은 스냅샷 없이 발행됩니다.
+     */
+    private Map<Long, Post> loadSnapshots(List<PostOutbox> batch) {
+        List<Long> postIds = batch.stream()
+                .filter(outbox -> outbox.getEventType() != PostEvent.EventType.DELETED)
+                .map(PostOutbox::getPostId)
+                .distinct()
+                .toList();
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+    }
+
+    private PostEvent toEvent(PostOutbox outbox, Map<Long, Post> snapshots) {
+        if (outbox.getEventType() == PostEvent.EventType.DELETED) {
+            // 아웃박스 행이 기록된 시각(삭제 시각)을 삭제 버전으로 사용합니다.
+            return PostEvent.deletionOf(outbox.getPostId(), outbox.getCreatedAt());
+        }
+        Post post = snapshots.get(outbox.getPostId());
+        if (post != null) {
+            return PostEvent.snapshotOf(post, outbox.getEventType());
+        }
+        return new PostEvent(outbox.getPostId(), outbox.getEventType());
+    }
+}
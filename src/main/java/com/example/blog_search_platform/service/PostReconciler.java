@@ -0,0 +1,291 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.domain.ReconcileCheckpoint;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.dto.PostVersion;
+import com.example.blog_search_platform.dto.ReconcileStatusResponse;
+import com.example.blog_search_platform.exception.IndexingFailedException;
+import com.example.blog_search_platform.repository.PostRepository;
+import com.example.blog_search_platform.repository.ReconcileCheckpointRepository;
+import com.example.blog_search_platform.repository.elasticsearch.PostVersionScanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * DB와 검색 인덱스의 차이를 찾아 바로잡는 백그라운드 작업
+ * 이벤트가 DLT에 남거나 Elasticsearch 쪽에서 유실되면, 전체 재색인 없이는 인덱스가 DB와 어긋난 채로 남습니다.
+ * 게시글을 id 순서대로 chunk-size 건씩 나누어, 묶음마다 (id, 버전) 요약값(digest)을 양쪽에서 계산해 비교하고
+ * 요약값이 다른 묶음만 게시글 단위로 비교해서 어긋난 게시글을 다시 색인하거나 삭제합니다.
+ * 한 번의 실행에서 한 묶음만 처리하므로, interval로 DB와 Elasticsearch에 주는 부하를 조절할 수 있습니다.
+ * 최근 grace-period 안에 수정된 게시글은 아직 이벤트가 색인되는 중일 수 있으므로 비교하지 않고, 다음 바퀴에서 점검합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class PostReconciler {
+
+    private static final String CHECKPOINT_NAME = "posts";
+
+    private final PostRepository postRepository;
+    private final ReconcileCheckpointRepository reconcileCheckpointRepository;
+    private final PostVersionScanRepository postVersionScanRepository;
+    private final PostIndexingService postIndexingService;
+    private final PostReindexService postReindexService;
+    private final PostSearchCache postSearchCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.reconcile.grace-period:30s}")
+    private Duration gracePeriod;
+
+    private final AtomicLong scannedChunks = new AtomicLong();
+    private final AtomicLong driftedChunks = new AtomicLong();
+    private final AtomicLong reindexedPosts = new AtomicLong();
+    private final AtomicLong deletedPosts = new AtomicLong();
+    private final AtomicLong checkpointId = new AtomicLong();
+    private volatile LocalDateTime lastDriftAt;
+
+    /**
+     * 체크포인트 다음 묶음 하나를 점검합니다.
+     * Elasticsearch 조회와 복구는 트랜잭션 밖에서 실행하고, 체크포인트를 옮길 때만 행을 잠급니다.
+     * 그 사이 다른 인스턴스가 체크포인트를 먼저 옮겼으면 이 인스턴스의 결과로 덮어쓰지 않습니다.
+     * (같은 묶음을 두 인스턴스가 함께 복구해도 외부 버전으로 쓰므로 결과는 같습니다.)
+     * 재색인 중에는 인덱스가 교체되므로 점검하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.reconcile.interval:1s}", initialDelayString = "${app.reconcile.initial-delay:1m}")
+    public void reconcile() {
+        if (postReindexService.isRunning()) {
+            return;
+        }
+        Optional<ReconcileCheckpoint> checkpoint = reconcileCheckpointRepository.findById(CHECKPOINT_NAME);
+        if (checkpoint.isEmpty()) {
+            createCheckpoint();
+            return;
+        }
+
+        Long afterId = checkpoint.get().getLastId();
+        long completedPasses = checkpoint.get().getCompletedPasses();
+        Long nextLastId = reconcileChunk(afterId);
+        transactionTemplate.executeWithoutResult(status -> advanceCheckpoint(afterId, completedPasses, nextLastId));
+    }
+
+    /**
+     * 이 인스턴스가 시작된 이후의 점검 현황을 반환합니다.
+     */
+    public ReconcileStatusResponse getStatus() {
+        Optional<ReconcileCheckpoint> checkpoint = reconcileCheckpointRepository.findById(CHECKPOINT_NAME);
+        return ReconcileStatusResponse.builder()
+                .checkpointId(checkpoint.map(ReconcileCheckpoint::getLastId).orElse(null))
+                .completedPasses(checkpoint.map(ReconcileCheckpoint::getCompletedPasses).orElse(0L))
+                .scannedChunks(scannedChunks.get())
+                .driftedChunks(driftedChunks.get())
+                .reindexedPosts(reindexedPosts.get())
+                .deletedPosts(deletedPosts.get())
+                .lastDriftAt(lastDriftAt)
+                .build();
+    }
+
+    public long getScannedChunks() {
+        return scannedChunks.get();
+    }
+
+    public long getDriftedChunks() {
+        return driftedChunks.get();
+    }
+
+    public long getReindexedPosts() {
+        return reindexedPosts.get();
+    }
+
+    public long getDeletedPosts() {
+        return deletedPosts.get();
+    }
+
+    public long getCheckpointId() {
+        return checkpointId.get();
+    }
+
+    private void createCheckpoint() {
+        try {
+            if (!reconcileCheckpointRepository.existsById(CHECKPOINT_NAME)) {
+                reconcileCheckpointRepository.save(new ReconcileCheckpoint(CHECKPOINT_NAME));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 여러 인스턴스가 동시에 첫 체크포인트를 만든 경우이며, 다음 실행부터는 정상적으로 진행됩니다.
+            log.debug("Reconcile checkpoint was created by another instance", e);
+        }
+    }
+
+    /**
+     * 점검을 시작할 때 읽은 체크포인트가 그대로인 경우에만 다음 묶음으로 옮깁니다.
+     * 다른 인스턴스가 잠그고 있으면 기다리지 않으며, 같은 묶음은 다음 실행에서 다시 점검합니다.
+     */
+    private void advanceCheckpoint(Long afterId, long completedPasses, Long nextLastId) {
+        Optional<ReconcileCheckpoint> locked = reconcileCheckpointRepository.findWithLockByName(CHECKPOINT_NAME);
+        if (locked.isEmpty()
+                || !locked.get().getLastId().equals(afterId)
+                || locked.get().getCompletedPasses() != completedPasses) {
+            log.debug("Reconcile checkpoint was moved by another instance: afterId={}", afterId);
+            return;
+        }
+
+        ReconcileCheckpoint checkpoint = locked.get();
+        if (nextLastId == null) {
+            checkpoint.completePass();
+            log.info("Reconcile pass completed: passes={}", checkpoint.getCompletedPasses());
+        } else {
+            checkpoint.advance(nextLastId);
+        }
+        checkpointId.set(checkpoint.getLastId());
+    }
+
+    /**
+     * afterId 다음 묶음을 점검하고, 어긋난 게시글을 바로잡습니다.
+     * 마지막 묶음은 DB의 가장 큰 id 이후에 남아 있는 문서까지 포함해서 비교합니다.
+     * @return 다음 점검을 시작할 id (마지막 묶음이었으면 null)
+     */
+    private Long reconcileChunk(Long afterId) {
+        List<PostVersion> databaseVersions = postRepository.findVersionsAfter(afterId, Limit.of(chunkSize));
+        boolean lastChunk = databaseVersions.size() < chunkSize;
+        Long upToId = lastChunk ? null : databaseVersions.get(databaseVersions.size() - 1).getId();
+        List<PostVersion> indexedVersions = scanIndex(afterId, upToId);
+        scannedChunks.incrementAndGet();
+
+        Set<Long> recentIds = recentlyUpdatedIds(databaseVersions, indexedVersions);
+        if (!recentIds.isEmpty()) {
+            databaseVersions = withoutIds(databaseVersions, recentIds);
+            indexedVersions = withoutIds(indexedVersions, recentIds);
+        }
+        if (digestOf(databaseVersions) != digestOf(indexedVersions)) {
+            driftedChunks.incrementAndGet();
+            lastDriftAt = LocalDateTime.now();
+            repair(databaseVersions, indexedVersions);
+        }
+        return upToId;
+    }
+
+    private List<PostVersion> scanIndex(long afterId, Long upToId) {
+        List<PostVersion> versions = new ArrayList<>();
+        long cursor = afterId;
+        while (true) {
+            List<PostVersion> page = postVersionScanRepository.findVersions(cursor, upToId, chunkSize);
+            versions.addAll(page);
+            if (page.size() < chunkSize) {
+                return versions;
+            }
+            cursor = page.get(page.size() - 1).getId();
+        }
+    }
+
+    /**
+     * DB나 인덱스 어느 쪽이든 grace-period 안에 수정된 게시글의 id를 반환합니다.
+     * 버전은 수정 시각으로 만들므로, 같은 방식으로 변환한 기준 시각과 비교합니다.
+     */
+    private Set<Long> recentlyUpdatedIds(List<PostVersion> databaseVersions, List<PostVersion> indexedVersions) {
+        long cutoff = PostDocument.versionOf(LocalDateTime.now().minus(gracePeriod));
+        Set<Long> recentIds = new HashSet<>();
+        for (List<PostVersion> versions : List.of(databaseVersions, indexedVersions)) {
+            for (PostVersion version : versions) {
+                if (version.getVersion() != null && version.getVersion() > cutoff) {
+                    recentIds.add(version.getId());
+                }
+            }
+        }
+        return recentIds;
+    }
+
+    private static List<PostVersion> withoutIds(List<PostVersion> versions, Set<Long> ids) {
+        return versions.stream()
+                .filter(version -> !ids.contains(version.getId()))
+                .toList();
+    }
+
+    /**
+     * 묶음 안의 게시글을 하나씩 비교해서, 인덱스에 없거나 버전이 다른 게시글은 다시 색인하고 DB에 없는 문서는 삭제합니다.
+     * 색인은 DB에서 최신 상태를 다시 조회하고 외부 버전으로 쓰므로, 점검 도중 수정된 게시글이 있어도 이전 상태로 되돌리지 않습니다.
+     */
+    private void repair(List<PostVersion> databaseVersions, List<PostVersion> indexedVersions) {
+        Map<Long, Long> indexed = new LinkedHashMap<>();
+        indexedVersions.forEach(version -> indexed.put(version.getId(), version.getVersion()));
+
+        List<PostEvent> events = new ArrayList<>();
+        for (PostVersion databaseVersion : databaseVersions) {
+            Long indexedVersion = indexed.remove(databaseVersion.getId());
+            if (indexedVersion == null || !indexedVersion.equals(databaseVersion.getVersion())) {
+                events.add(new PostEvent(databaseVersion.getId(), PostEvent.EventType.UPDATED));
+            }
+        }
+        int reindexed = events.size();
+
+        // DB를 읽은 뒤 생성되어 색인된 게시글일 수 있으므로, 다시 확인해서 DB에 없는 문서만 삭제합니다.
+        int deleted = 0;
+        if (!indexed.isEmpty()) {
+            Set<Long> existingIds = postRepository.findAllById(indexed.keySet()).stream()
+                    .map(Post::getId)
+                    .collect(Collectors.toSet());
+            LocalDateTime deletedAt = LocalDateTime.now();
+            for (Long orphanId : indexed.keySet()) {
+                if (!existingIds.contains(orphanId)) {
+                    events.add(PostEvent.deletionOf(orphanId, deletedAt));
+                    deleted++;
+                }
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        BulkIndexResult result = postIndexingService.index(events);
+        if (result.hasFailures()) {
+            // 체크포인트를 옮기지 않으므로, 다음 실행에서 같은 묶음을 다시 점검합니다.
+            throw new IndexingFailedException("Failed to repair drifted posts: failures=" + result.getFailures().size());
+        }
+        // 복구 전 상태로 캐시된 검색 결과를 더 이상 사용하지 않도록 합니다.
+        postSearchCache.bumpGeneration();
+        reindexedPosts.addAndGet(reindexed);
+        deletedPosts.addAndGet(deleted);
+        log.info("Drifted chunk repaired: firstId={}, reindexed={}, deleted={}",
+                databaseVersions.isEmpty() ? null : databaseVersions.get(0).getId(), reindexed, deleted);
+    }
+
+    /**
+     * (id, 버전) 목록의 요약값을 계산합니다.
+     * 항목마다 섞은(mix) 해시를 더하므로 순서와 관계없이 같은 목록이면 같은 값이 되고, 한 항목만 달라도 값이 달라집니다.
+     */
+    static long digestOf(List<PostVersion> versions) {
+        long digest = versions.size();
+        for (PostVersion version : versions) {
+            long hash = version.getId() * 0x9E3779B97F4A7C15L ^ (version.getVersion() == null ? 0L : version.getVersion());
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            digest += hash;
+        }
+        return digest;
+    }
+}
@@ -0,0 +1,400 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.config.NoriAnalyzerConfig;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.dto.ReindexStatusResponse;
+import com.example.blog_search_platform.exception.ReindexInProgressException;
+import com.example.blog_search_platform.repository.PostRepository;
+import com.example.blog_search_platform.repository.elasticsearch.PostBulkIndexer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 새 버전의 인덱스(posts_vN)를 만들어 전체 게시글을 다시 색인한 뒤, 'posts' 별칭을 원자적으로 교체하는 서비스
+ * 작업 중에도 검색과 실시간 색인은 기존 인덱스를 그대로 사용하므로 중단 시간이 없습니다.
+ *
+ * 1. 새 인덱스를 refresh 없이, 레플리카 없이 생성하고 post-events의 현재 끝 오프셋을 기록합니다.
+ * 2. MySQL의 게시글을 id 키셋 페이징으로 읽어 여러 _bulk 요청으로 동시에 적재합니다.
+ * 3. 기록한 오프셋부터 쌓인 이벤트를 새 인덱스에 반영(catch-up)하고, refresh/레플리카 설정을 되돌립니다.
+ * 4. 'posts' 별칭을 새 인덱스로 원자적으로 옮긴 뒤, 교체 직전까지 기존 인덱스에만 반영된 이벤트를 한 번 더 반영합니다.
+ * 모든 쓰기는 외부 버전을 사용하므로, 같은 이벤트가 두 번 반영되거나 순서가 뒤바뀌어도 최신 상태만 남습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostReindexService {
+
+    private static final String REINDEX_GROUP_ID = "blog-search-reindex";
+    private static final String VERSIONED_PREFIX = NoriAnalyzerConfig.ALIAS_NAME + "_v";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final PostRepository postRepository;
+    private final PostBulkIndexer postBulkIndexer;
+    private final PostIndexingService postIndexingService;
+    private final PostSearchCache postSearchCache;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final PostEventCodec postEventCodec;
+
+    // 재색인 작업은 한 번에 하나만 실행되므로 단일 스레드에서 실행합니다.
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("post-reindex-"));
+
+    @Value("${app.reindex.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.reindex.parallelism:4}")
+    private int parallelism;
+
+    // 적재가 끝난 뒤 새 인덱스에 적용할 설정입니다.
+    @Value("${app.reindex.refresh-interval:1s}")
+    private String refreshInterval;
+
+    @Value("${app.reindex.replicas:1}")
+    private String replicas;
+
+    private volatile ReindexJob currentJob;
+
+    /**
+     * 재색인 작업을 백그라운드에서 시작합니다.
+     * @return 시작된 작업의 상태
+     * @throws ReindexInProgressException 이미 진행 중인 재색인 작업이 있는 경우
+     */
+    public synchronized ReindexStatusResponse start() {
+        if (currentJob != null && currentJob.isRunning()) {
+            throw new ReindexInProgressException("이미 진행 중인 재색인 작업이 있습니다: " + currentJob.targetIndex);
+        }
+        ReindexJob job = new ReindexJob(NoriAnalyzerConfig.versionedIndexName(nextIndexVersion()));
+        currentJob = job;
+        jobExecutor.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    /**
+     * 가장 최근 재색인 작업의 진행 상황을 반환합니다.
+     * @return 작업 상태 (실행한 적이 없으면 null)
+     */
+    public ReindexStatusResponse getStatus() {
+        ReindexJob job = currentJob;
+        return job == null ? null : job.toResponse();
+    }
+
+    /**
+     * 재색인 작업이 진행 중인지 확인합니다.
+     */
+    public boolean isRunning() {
+        ReindexJob job = currentJob;
+        return job != null && job.isRunning();
+    }
+
+    private void run(ReindexJob job) {
+        String targetIndex = job.targetIndex;
+        boolean swapped = false;
+        try {
+            createLoadingIndex(targetIndex);
+            // 적재를 시작하기 전의 끝 오프셋을 기록해 두면, 그 이후의 변경은 catch-up 단계에서 모두 반영됩니다.
+            Map<TopicPartition, Long> loadStartOffsets = endOffsets();
+
+            job.phase = Phase.LOADING;
+            job.totalPosts = postRepository.count();
+            loadFromDatabase(job);
+            if (job.failedPosts.get() > 0) {
+                throw new IllegalStateException("일부 게시글을 색인하지 못해 별칭 교체를 중단합니다: failed=" + job.failedPosts.get());
+            }
+
+            job.phase = Phase.CATCHING_UP;
+            Map<TopicPartition, Long> caughtUpOffsets = catchUp(job, loadStartOffsets);
+            if (job.failedPosts.get() > 0) {
+                throw new IllegalStateException("catch-up 중 일부 이벤트를 반영하지 못해 별칭 교체를 중단합니다: failed=" + job.failedPosts.get());
+            }
+            applyServingSettings(targetIndex);
+
+            job.phase = Phase.SWAPPING;
+            swapAlias(targetIndex);
+            swapped = true;
+            // 검색 대상 인덱스가 바뀌었으므로, 이전 인덱스에서 캐시된 검색 결과를 오래된 것으로 표시합니다.
+            postSearchCache.bumpGeneration();
+            // 교체 직전까지 실시간 컨슈머가 기존 인덱스에만 반영한 이벤트를 새 인덱스에도 반영합니다.
+            catchUp(job, caughtUpOffsets);
+            if (job.failedPosts.get() > 0) {
+                // 별칭은 이미 새 인덱스를 가리키므로 되돌리지 않고, 반영하지 못한 게시글은 정합성 점검(PostReconciler)이 바로잡습니다.
+                throw new IllegalStateException("별칭 교체 후 catch-up 중 일부 이벤트를 반영하지 못했습니다: failed=" + job.failedPosts.get());
+            }
+
+            job.finish(Phase.COMPLETED, null);
+            log.info("Reindex completed: index={}, indexed={}, caughtUp={}, postsPerSecond={}",
+                    targetIndex, job.indexedPosts.get(), job.caughtUpEvents.get(), String.format("%.1f", job.postsPerSecond()));
+        } catch (Exception e) {
+            job.finish(Phase.FAILED, e.getMessage());
+            log.error("Reindex failed: index={}, phase={}", targetIndex, job.phase, e);
+            if (!swapped) {
+                deleteQuietly(targetIndex);
+            }
+        }
+    }
+
+    /**
+     * 적재 속도를 위해 refresh를 끄고 레플리카 없이 새 인덱스를 생성합니다.
+     */
+    private void createLoadingIndex(String indexName) {
+        Settings settings = NoriAnalyzerConfig.indexSettings();
+        settings.put("index.refresh_interval", "-1");
+        settings.put("index.number_of_replicas", 0);
+        NoriAnalyzerConfig.createIndex(elasticsearchOperations, indexName, settings);
+        log.info("Reindex target index created: index={}", indexName);
+    }
+
+    /**
+     * 게시글을 id 키셋 페이징으로 읽어, 최대 parallelism 개의 _bulk 요청을 동시에 전송합니다.
+     * 전송 중인 요청 수를 제한하므로 DB 조회가 색인보다 빨라도 메모리에 쌓이는 묶음은 일정하게 유지됩니다.
+     */
+    private void loadFromDatabase(ReindexJob job) throws InterruptedException {
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService bulkExecutor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("reindex-bulk-"));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<Post> chunk = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+                List<PostDocument> documents = chunk.stream().map(PostDocument::from).toList();
+
+                permits.acquire();
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        BulkIndexResult result = postBulkIndexer.bulk(job.targetIndex, documents, Map.of());
+                        job.indexedPosts.addAndGet(result.getTotal() - result.getFailures().size());
+                        job.failedPosts.addAndGet(result.getFailures().size());
+                    } finally {
+                        permits.release();
+                    }
+                }, bulkExecutor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            bulkExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 주어진 오프셋부터 현재 끝 오프셋까지 post-events의 이벤트를 새 인덱스에 반영합니다.
+     * 오프셋은 커밋하지 않으므로 실시간 컨슈머 그룹에는 영향을 주지 않습니다.
+     * 반영에 실패한 항목은 적재 단계와 마찬가지로 failedPosts에 집계됩니다.
+     * @param from 파티션별 시작 오프셋
+     * @return 반영을 마친 파티션별 끝 오프셋
+     */
+    private Map<TopicPartition, Long> catchUp(ReindexJob job, Map<TopicPartition, Long> from) {
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(REINDEX_GROUP_ID, "reindex", null, consumerOverrides())) {
+            consumer.assign(from.keySet());
+            from.forEach(consumer::seek);
+            Map<TopicPartition, Long> until = consumer.endOffsets(from.keySet());
+
+            while (!reached(consumer, until)) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                List<PostEvent> events = new ArrayList<>(records.count());
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() < until.get(partition)) {
+                        parse(record.value(), events);
+                    }
+                }
+                if (!events.isEmpty()) {
+                    BulkIndexResult result = postIndexingService.index(events, job.targetIndex);
+                    job.caughtUpEvents.addAndGet(events.size() - result.getFailures().size());
+                    job.failedPosts.addAndGet(result.getFailures().size());
+                }
+            }
+            return until;
+        }
+    }
+
+    private Map<TopicPartition, Long> endOffsets() {
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(REINDEX_GROUP_ID, "reindex", null, consumerOverrides())) {
+            List<TopicPartition> partitions = consumer.partitionsFor(KafkaTopicConfig.POST_EVENTS).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            return consumer.endOffsets(partitions);
+        }
+    }
+
+    private boolean reached(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> until) {
+        return until.entrySet().stream().allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    private Properties consumerOverrides() {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        return overrides;
+    }
+
+    private void parse(byte[] message, List<PostEvent> events) {
+        try {
+            events.add(postEventCodec.decode(message));
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 메시지는 실시간 컨슈머가 DLT로 보내므로 여기서는 건너뜁니다.
+            log.warn("Skipping malformed PostEvent during reindex catch-up: bytes={}", message.length);
+        }
+    }
+
+    /**
+     * 적재가 끝난 인덱스에 운영용 refresh 주기와 레플리카 수를 적용하고, 바로 검색되도록 refresh합니다.
+     */
+    private void applyServingSettings(String indexName) throws IOException {
+        elasticsearchClient.indices().putSettings(request -> request
+                .index(indexName)
+                .settings(settings -> settings
+                        .refreshInterval(time -> time.time(refreshInterval))
+                        .numberOfReplicas(replicas)));
+        elasticsearchClient.indices().refresh(request -> request.index(indexName));
+    }
+
+    /**
+     * 'posts' 별칭을 새 인덱스로 옮깁니다. 제거와 추가가 하나의 _aliases 요청으로 실행되므로
+     * 검색 요청은 항상 기존 인덱스와 새 인덱스 중 하나를 보게 됩니다.
+     * 'posts'가 별칭이 아닌 실제 인덱스(이전 버전에서 생성된 인덱스)라면, 같은 요청 안에서 그 인덱스를 삭제합니다.
+     * 기존 버전 인덱스는 롤백을 위해 남겨 둡니다.
+     */
+    private void swapAlias(String newIndex) throws IOException {
+        String alias = NoriAnalyzerConfig.ALIAS_NAME;
+        boolean aliasExists = elasticsearchClient.indices().existsAlias(request -> request.name(alias)).value();
+        Set<String> previousIndices = aliasExists
+                ? elasticsearchClient.indices().getAlias(request -> request.name(alias)).result().keySet()
+                : Set.of();
+        boolean legacyIndexExists = !aliasExists
+                && elasticsearchClient.indices().exists(request -> request.index(alias)).value();
+
+        elasticsearchClient.indices().updateAliases(request -> {
+            previousIndices.forEach(index -> request.actions(action -> action.remove(remove -> remove.index(index).alias(alias))));
+            if (legacyIndexExists) {
+                request.actions(action -> action.removeIndex(remove -> remove.index(alias)));
+            }
+            return request.actions(action -> action.add(add -> add.index(newIndex).alias(alias)));
+        });
+        log.info("Alias swapped: alias={}, from={}, to={}", alias, legacyIndexExists ? Set.of(alias) : previousIndices, newIndex);
+    }
+
+    private int nextIndexVersion() {
+        try {
+            Set<String> indices = elasticsearchClient.indices()
+                    .get(request -> request.index(VERSIONED_PREFIX + "*"))
+                    .result().keySet();
+            return indices.stream()
+                    .map(index -> index.substring(VERSIONED_PREFIX.length()))
+                    .filter(suffix -> suffix.matches("\\d+"))
+                    .mapToInt(Integer::parseInt)
+                    .max()
+                    .orElse(0) + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Elasticsearch 인덱스 목록을 조회하지 못했습니다.", e);
+        }
+    }
+
+    private void deleteQuietly(String indexName) {
+        try {
+            elasticsearchClient.indices().delete(request -> request.index(indexName).ignoreUnavailable(true));
+        } catch (Exception e) {
+            log.warn("Failed to delete abandoned reindex target: index={}", indexName, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private enum Phase {
+        CREATING, LOADING, CATCHING_UP, SWAPPING, COMPLETED, FAILED
+    }
+
+    /**
+     * 실행 중인 재색인 작업의 상태. 적재 스레드와 조회 요청이 동시에 접근하므로 원자적 변수를 사용합니다.
+     */
+    private static class ReindexJob {
+        private final String targetIndex;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong indexedPosts = new AtomicLong();
+        private final AtomicLong failedPosts = new AtomicLong();
+        private final AtomicLong caughtUpEvents = new AtomicLong();
+        private volatile Phase phase = Phase.CREATING;
+        private volatile long totalPosts;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+        private volatile String error;
+
+        private ReindexJob(String targetIndex) {
+            this.targetIndex = targetIndex;
+        }
+
+        private boolean isRunning() {
+            return phase != Phase.COMPLETED && phase != Phase.FAILED;
+        }
+
+        private void finish(Phase result, String error) {
+            this.finishedNanos = System.nanoTime();
+            this.finishedAt = LocalDateTime.now();
+            this.error = error;
+            this.phase = result;
+        }
+
+        private double postsPerSecond() {
+            long endNanos = isRunning() ? System.nanoTime() : finishedNanos;
+            double seconds = (endNanos - startedNanos) / 1_000_000_000.0;
+            return seconds > 0 ? indexedPosts.get() / seconds : 0;
+        }
+
+        private ReindexStatusResponse toResponse() {
+            long total = totalPosts;
+            return ReindexStatusResponse.builder()
+                    .phase(phase.name())
+                    .targetIndex(targetIndex)
+                    .totalPosts(total)
+                    .indexedPosts(indexedPosts.get())
+                    .failedPosts(failedPosts.get())
+                    .caughtUpEvents(caughtUpEvents.get())
+                    .progressPercent(total > 0 ? Math.min(100.0, indexedPosts.get() * 100.0 / total) : 0)
+                    .postsPerSecond(postsPerSecond())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
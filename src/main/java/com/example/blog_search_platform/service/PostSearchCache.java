@@ -0,0 +1,174 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.dto.SearchCacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과를 애플리케이션 메모리에 보관하는 캐시
+ * 검색 요청은 소수의 인기 키워드에 몰리므로, 같은 검색어/페이지/정렬의 결과를 Elasticsearch 조회 없이 돌려줍니다.
+ *
+ * 색인이 변경될 때마다 컨슈머가 세대(generation) 번호를 올리며, 이전 세대에 저장된 결과는
+ * 저장된 지 max-staleness가 지나면 더 이상 사용하지 않습니다. 변경은 항상 결과가 저장된 이후에 일어나므로,
+ * 캐시된 결과가 색인된 변경보다 max-staleness 이상 오래 남지 않습니다.
+ *
+ * 세대는 bulk 요청이 끝난 직후에 오르지만, 변경은 다음 refresh가 지나야 검색에 보입니다.
+ * 그 사이에 조회한 결과는 새 세대로 저장되더라도 변경 이전의 결과일 수 있으므로,
+ * 마지막 세대 변경 후 index-refresh-interval이 지난 뒤에 조회를 시작한 결과만 최신 세대의 결과로 취급합니다.
+ * 세대 번호는 인스턴스마다 따로 관리되므로, 모든 인스턴스가 post-events를 받는 PostCacheInvalidationListener에서도 세대를 올려
+ * 다른 인스턴스가 색인한 변경도 같은 기준으로 반영됩니다.
+ */
+@Component
+public class PostSearchCache {
+
+    private final Cache<String, Entry> cache;
+    private final long maxStalenessNanos;
+    private final long refreshIntervalNanos;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong lastBumpedAt;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong staleMissCount = new AtomicLong();
+
+    public PostSearchCache(@Value("${app.search.cache.maximum-size:10000}") long maximumSize,
+                           @Value("${app.search.cache.ttl:5m}") Duration ttl,
+                           @Value("${app.search.cache.max-staleness:1s}") Duration maxStaleness,
+                           @Value("${app.search.cache.index-refresh-interval:1s}") Duration indexRefreshInterval) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.refreshIntervalNanos = indexRefreshInterval.toNanos();
+        // 아직 변경이 없었으므로, 처음 저장되는 결과부터 최신 세대로 취급되도록 한 refresh 주기 전으로 둡니다.
+        this.lastBumpedAt = new AtomicLong(System.nanoTime() - refreshIntervalNanos);
+    }
+
+    /**
+     * 캐시된 결과가 유효하면 반환하고, 없거나 오래된 경우 loader로 조회한 결과를 저장한 뒤 반환합니다.
+     * @param key 검색 조건으로 만든 캐시 키 ({@link #keyOf})
+     * @param loader 캐시에 없을 때 실행할 검색
+     * @return 검색 결과
+     */
+    public <T> T get(String key, Supplier<T> loader) {
+        return get(key, loader, value -> true);
+    }
+
+    /**
+     * 캐시된 결과가 유효하면 반환하고, 없거나 오래된 경우 loader로 조회합니다.
+     * 조회한 결과는 cacheable을 만족할 때만 저장하므로, 부분 결과처럼 다시 쓰면 안 되는 결과는 이번 요청에만 사용됩니다.
+     * @param key 검색 조건으로 만든 캐시 키 ({@link #keyOf})
+     * @param loader 캐시에 없을 때 실행할 검색
+     * @param cacheable 조회한 결과를 저장할지 판단하는 조건
+     * @return 검색 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader, Predicate<? super T> cacheable) {
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && isFresh(cached)) {
+            hitCount.incrementAndGet();
+            return (T) cached.value;
+        }
+        missCount.incrementAndGet();
+        if (cached != null) {
+            staleMissCount.incrementAndGet();
+        }
+
+        // 조회 전에 세대를 읽어야, 조회 중에 색인된 변경이 있으면 저장된 결과가 이전 세대로 남습니다.
+        long loadedGeneration = generation.get();
+        long loadStartedAt = System.nanoTime();
+        T value = loader.get();
+        if (cacheable.test(value)) {
+            cache.put(key, new Entry(value, loadedGeneration, loadStartedAt, System.nanoTime()));
+        }
+        return value;
+    }
+
+    /**
+     * 신선도와 관계없이 캐시에 남아 있는 결과를 반환합니다. Elasticsearch에 검색할 수 없을 때 이전 결과로 대신 응답하는 데 사용합니다.
+     * @param key 검색 조건으로 만든 캐시 키 ({@link #keyOf})
+     * @return 저장된 결과 (ttl이 지났거나 저장된 적이 없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getStale(String key) {
+        Entry cached = cache.getIfPresent(key);
+        return cached != null ? (T) cached.value : null;
+    }
+
+    /**
+     * 색인이 변경되었음을 알립니다. 이후 조회부터 이전 세대의 결과는 max-staleness 안에서만 사용됩니다.
+     * 변경이 refresh로 검색에 보이기 전에 조회한 결과도 같은 기준으로만 사용됩니다.
+     */
+    public void bumpGeneration() {
+        // 세대보다 시각을 먼저 기록해, 새 세대를 읽은 조회는 항상 이 시각과 비교됩니다.
+        lastBumpedAt.set(System.nanoTime());
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 검색 조건으로 캐시 키를 만듭니다. 키워드는 대소문자, 앞뒤 공백, 연속 공백, 유니코드 조합 형태의 차이를 무시합니다.
+     * @param type 검색 방식 (e.g., page, slice)
+     * @param keyword 검색 키워드
+     * @param pageable 페이지 번호, 크기, 정렬
+     * @return 캐시 키
+     */
+    public static String keyOf(String type, String keyword, Pageable pageable) {
+        return type + '|' + normalize(keyword) + '|' + pageable.getPageNumber() + '|' + pageable.getPageSize() + '|' + pageable.getSort();
+    }
+
+    public static String normalize(String keyword) {
+        String composed = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+        return composed.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public SearchCacheStatsResponse getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        return SearchCacheStatsResponse.builder()
+                .hits(hits)
+                .misses(misses)
+                .staleMisses(staleMissCount.get())
+                .evictions(cache.stats().evictionCount())
+                .hitRate(hits + misses == 0 ? 0 : (double) hits / (hits + misses))
+                .size(cache.estimatedSize())
+                .generation(generation.get())
+                .build();
+    }
+
+    private boolean isFresh(Entry entry) {
+        return isCurrent(entry) || System.nanoTime() - entry.loadedAt < maxStalenessNanos;
+    }
+
+    /**
+     * 마지막 세대 변경이 refresh로 검색에 보인 뒤에 조회를 시작한 결과인지 확인합니다.
+     */
+    private boolean isCurrent(Entry entry) {
+        return entry.generation == generation.get() && entry.loadStartedAt - lastBumpedAt.get() >= refreshIntervalNanos;
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long generation;
+        private final long loadStartedAt;
+        private final long loadedAt;
+
+        private Entry(Object value, long generation, long loadStartedAt, long loadedAt) {
+            this.value = value;
+            this.generation = generation;
+            this.loadStartedAt = loadStartedAt;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
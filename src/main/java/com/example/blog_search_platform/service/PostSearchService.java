@@ -1,32 +1,250 @@
 package com.example.blog_search_platform.service;
 
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.PostSearchCursorResponse;
 import com.example.blog_search_platform.dto.PostSearchResponse;
-import com.example.blog_search_platform.repository.elasticsearch.PostSearchRepository;
+import com.example.blog_search_platform.dto.PostSearchSliceResponse;
+import com.example.blog_search_platform.dto.SearchCursor;
+import com.example.blog_search_platform.exception.InvalidCursorException;
+import com.example.blog_search_platform.exception.SearchTimeoutException;
+import com.example.blog_search_platform.exception.SearchUnavailableException;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Elasticsearch를 사용한 게시글 검색 비즈니스 로직을 처리하는 서비스
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PostSearchService {
 
-    private final PostSearchRepository postSearchRepository;
+    private final PostSearchQueryRepository postSearchQueryRepository;
+    private final PostSearchCache postSearchCache;
+    private final SearchSingleFlight searchSingleFlight;
+    private final ObjectMapper objectMapper;
+    private final PostPipelineMetrics postPipelineMetrics;
+    private final SearchGuard searchGuard;
+
+    @Value("${app.search.cursor.max-size:100}")
+    private int maxCursorSize;
+
+    @Value("${app.search.cursor.pit-keep-alive:1m}")
+    private Duration pitKeepAlive;
 
     /**
      * 키워드를 사용하여 게시글의 제목 또는 내용에서 검색을 수행합니다.
+     * 같은 검색어/페이지/정렬의 결과는 캐시에서 반환하고, 캐시에 없는 같은 검색이 동시에 들어오면 한 번만 검색합니다.
      * @param keyword 검색할 키워드
      * @param pageable 페이징 정보 (e.g., page, size)
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 반환합니다.
      * @return 검색 결과 (페이징 포함)
      */
-    public Page<PostSearchResponse> search(String keyword, Pageable pageable) {
-        // @Query로 정의된 새로운 검색 메서드를 호출하도록 변경합니다.
-        return postSearchRepository.findByKeyword(keyword, pageable)
-                .map(PostSearchResponse::from);
+    public Page<PostSearchResponse> search(String keyword, Pageable pageable, boolean fullBody) {
+        String key = PostSearchCache.keyOf(fullBody ? "page:full" : "page", keyword, pageable);
+        return cachedSearch("page", key, () -> {
+            SearchResponse<PostDocument> response = searchGuard.execute(
+                    () -> postSearchQueryRepository.searchPage(keyword, pageable, fullBody));
+            List<PostSearchResponse> content = response.hits().hits().stream()
+                    .map(PostSearchResponse::from)
+                    .toList();
+            TotalHits total = response.hits().total();
+            Page<PostSearchResponse> page = new PageImpl<>(content, pageable, total == null ? content.size() : total.value());
+            return new SearchResult<>(page, response.timedOut());
+        }, Page::getNumberOfElements);
+    }
+
+    /**
+     * 전체 건수를 정확히 세지 않고 검색합니다.
+     * 다음 페이지 존재 여부를 알 수 있도록 현재 페이지 끝 + 1건까지만 세고, 일치하는 문서가 그보다 많아도 더 세지 않습니다.
+     * @param keyword 검색할 키워드
+     * @param pageable 페이징 정보 (e.g., page, size)
+     * @param totalHitsUpTo 0보다 크면 이 값까지 전체 건수를 세어 응답에 포함합니다. (상한에 도달하면 근사값)
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 반환합니다.
+     * @return 검색 결과와 다음 페이지 존재 여부
+     */
+    public PostSearchSliceResponse searchSlice(String keyword, Pageable pageable, int totalHitsUpTo, boolean fullBody) {
+        String key = PostSearchCache.keyOf("slice:" + totalHitsUpTo + (fullBody ? ":full" : ""), keyword, pageable);
+        return cachedSearch("slice", key, () -> loadSlice(keyword, pageable, totalHitsUpTo, fullBody),
+                slice -> slice.getContent().size());
+    }
+
+    /**
+     * 캐시와 중복 요청 합치기를 거쳐 검색하고, 검색 지연을 캐시 적중 여부와 함께 기록합니다.
+     * Elasticsearch에 검색할 수 없거나(회로 차단, 과부하, 장애) 제한 시간 안에 결과를 받지 못하면 캐시에 남아 있는 이전 결과로 대신 응답하고,
+     * 이전 결과도 없으면 예외를 그대로 던집니다.
+     * 검색 제한 시간에 걸린 부분 결과는 이번 요청에만 사용하고 캐시에 저장하지 않습니다.
+     */
+    private <T> T cachedSearch(String type, String key, Supplier<SearchResult<T>> search, ToIntFunction<T> resultCount) {
+        long start = System.nanoTime();
+        AtomicBoolean loaded = new AtomicBoolean();
+        SearchResult<T> result;
+        String cache;
+        try {
+            result = postSearchCache.get(key, () -> {
+                loaded.set(true);
+                return searchSingleFlight.execute(key, search);
+            }, searchResult -> !searchResult.partial);
+            // 캐시의 loader가 실행되었으면(다른 요청의 검색을 기다린 경우 포함) 캐시 미스입니다.
+            cache = loaded.get() ? "miss" : "hit";
+        } catch (SearchUnavailableException | SearchTimeoutException e) {
+            result = postSearchCache.getStale(key);
+            if (result == null) {
+                throw e;
+            }
+            log.warn("Serving stale search result: key={}, reason={}", key, e.getMessage());
+            cache = "stale";
+        }
+        postPipelineMetrics.recordSearch(type, cache, resultCount.applyAsInt(result.value), start);
+        return result.value;
+    }
+
+    private SearchResult<PostSearchSliceResponse> loadSlice(String keyword, Pageable pageable, int totalHitsUpTo, boolean fullBody) {
+        long pageEnd = pageable.getOffset() + pageable.getPageSize();
+        int trackTotalHitsUpTo = (int) Math.min(Integer.MAX_VALUE, Math.max(totalHitsUpTo, pageEnd + 1));
+        SearchResponse<PostDocument> searchResponse = searchGuard.execute(
+                () -> postSearchQueryRepository.searchSlice(keyword, pageable, trackTotalHitsUpTo, fullBody));
+
+        List<PostSearchResponse> content = searchResponse.hits().hits().stream()
+                .map(PostSearchResponse::from)
+                .toList();
+        TotalHits total = searchResponse.hits().total();
+        long totalHits = total == null ? 0 : total.value();
+        PostSearchSliceResponse.PostSearchSliceResponseBuilder response = PostSearchSliceResponse.builder()
+                .content(content)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .hasNext(totalHits > pageEnd);
+        if (totalHitsUpTo > 0) {
+            response.totalHits(totalHits)
+                    .totalHitsRelation(total != null && total.relation() == TotalHitsRelation.Eq ? "eq" : "gte");
+        }
+        return new SearchResult<>(response.build(), searchResponse.timedOut());
+    }
+
+    /**
+     * 커서(search_after)를 사용하여 다음 페이지를 검색합니다. 페이지 깊이와 관계없이 요청당 비용이 일정합니다.
+     * 다음 페이지가 있는지 확인하기 위해 size + 1건을 조회하고, 마지막 한 건은 응답에서 제외합니다.
+     * @param keyword 검색할 키워드
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 app.search.cursor.max-size)
+     * @param pointInTime true이면 첫 페이지에서 PIT를 열어, 이어지는 페이지를 같은 시점의 인덱스에서 검색합니다.
+     * @param fullBody true이면 본문 요약과 함께 본문 전체를 반환합니다.
+     * @return 검색 결과와 다음 페이지 커서
+     */
+    public PostSearchCursorResponse searchByCursor(String keyword, String cursor, int size, boolean pointInTime, boolean fullBody) {
+        long start = System.nanoTime();
+        int pageSize = Math.max(1, Math.min(size, maxCursorSize));
+        SearchCursor previous = cursor == null ? null : decodeCursor(cursor, keyword);
+
+        String pitId;
+        if (previous != null) {
+            pitId = previous.getPitId();
+        } else {
+            pitId = pointInTime ? searchGuard.execute(() -> postSearchQueryRepository.openPointInTime(pitKeepAlive)) : null;
+        }
+
+        SearchResponse<PostDocument> searchResponse;
+        try {
+            searchResponse = searchGuard.execute(() -> postSearchQueryRepository.searchAfter(
+                    keyword, pageSize + 1, previous == null ? null : previous.getSearchAfter(), pitId, pitKeepAlive, fullBody));
+        } catch (RuntimeException e) {
+            // 이번 요청에서 연 PIT는 클라이언트가 커서를 받지 못해 이어 쓸 수 없으므로, keep-alive까지 기다리지 않고 바로 닫습니다.
+            if (previous == null && pitId != null) {
+                closePointInTimeQuietly(pitId, e);
+            }
+            throw e;
+        }
+        List<Hit<PostDocument>> hits = searchResponse.hits().hits();
+        // Elasticsearch는 요청마다 갱신된 PIT ID를 돌려줄 수 있으므로, 응답의 값을 다음 커서에 담습니다.
+        String nextPitId = searchResponse.pitId() != null ? searchResponse.pitId() : pitId;
+
+        boolean hasNext = hits.size() > pageSize;
+        List<Hit<PostDocument>> page = hasNext ? hits.subList(0, pageSize) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            List<Object> lastSortValues = PostSearchQueryRepository.sortValues(page.get(page.size() - 1));
+            nextCursor = encodeCursor(new SearchCursor(keyword, lastSortValues, nextPitId));
+        } else if (nextPitId != null) {
+            // 마지막 페이지이므로 PIT를 바로 닫습니다. 클라이언트가 중간에 멈추면 keep-alive가 지나 자동으로 닫힙니다.
+            // 닫기에 실패해도 이미 받은 검색 결과는 그대로 응답합니다.
+            closePointInTimeQuietly(nextPitId, null);
+        }
+
+        List<PostSearchResponse> content = page.stream()
+                .map(PostSearchResponse::from)
+                .toList();
+        postPipelineMetrics.recordSearch("cursor", "none", content.size(), start);
+        return new PostSearchCursorResponse(content, nextCursor);
+    }
+
+    /**
+     * PIT를 닫되, 닫기에 실패해도 예외를 던지지 않습니다. (PIT는 keep-alive가 지나면 자동으로 닫힙니다)
+     * @param cause 검색이 실패해서 닫는 경우 그 예외 (닫기 실패를 suppressed로 덧붙입니다)
+     */
+    private void closePointInTimeQuietly(String pitId, RuntimeException cause) {
+        try {
+            postSearchQueryRepository.closePointInTime(pitId);
+        } catch (RuntimeException closeFailure) {
+            if (cause != null) {
+                cause.addSuppressed(closeFailure);
+            }
+            log.warn("Failed to close point-in-time: pitId={}", pitId, closeFailure);
+        }
+    }
+
+    private String encodeCursor(SearchCursor cursor) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(cursor));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode search cursor", e);
+        }
+    }
+
+    private SearchCursor decodeCursor(String encoded, String keyword) {
+        SearchCursor cursor;
+        try {
+            cursor = objectMapper.readValue(Base64.getUrlDecoder().decode(encoded), SearchCursor.class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidCursorException("잘못된 검색 커서입니다.", e);
+        }
+        if (!keyword.equals(cursor.getKeyword()) || cursor.getSearchAfter() == null) {
+            throw new InvalidCursorException("검색어와 일치하지 않는 커서입니다.");
+        }
+        return cursor;
+    }
+
+    /**
+     * 검색 결과와, 검색 제한 시간에 걸린 부분 결과인지 여부
+     * 중복 요청 합치기로 결과를 함께 받은 요청들도 같은 판단으로 캐시 저장 여부를 정하도록 결과와 함께 전달합니다.
+     */
+    private static final class SearchResult<T> {
+        private final T value;
+        private final boolean partial;
+
+        private SearchResult(T value, boolean partial) {
+            this.value = value;
+            this.partial = partial;
+        }
     }
-}
\ No newline at end of file
+}
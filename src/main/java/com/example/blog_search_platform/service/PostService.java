@@ -1,46 +1,69 @@
 package com.example.blog_search_platform.service;
 
 import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.domain.PostOutbox;
 import com.example.blog_search_platform.dto.PostCreateRequest;
 import com.example.blog_search_platform.dto.PostEvent;
 import com.example.blog_search_platform.dto.PostResponse;
 import com.example.blog_search_platform.dto.PostUpdateRequest;
 import com.example.blog_search_platform.exception.PostNotFoundException;
+import com.example.blog_search_platform.repository.PostOutboxRepository;
 import com.example.blog_search_platform.repository.PostRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronizationAdapter;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-@Slf4j
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
     private final PostRepository postRepository;
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
-    private static final String TOPIC_NAME = "post-events";
+    private final PostOutboxRepository postOutboxRepository;
+    private final PostCache postCache;
+    private final EntityManager entityManager;
 
     @Transactional
     public PostResponse createPost(PostCreateRequest request) {
         Post savedPost = postRepository.save(request.toEntity());
-        publishEventAfterCommit(new PostEvent(savedPost.getId(), PostEvent.EventType.CREATED));
+        appendOutbox(savedPost.getId(), PostEvent.EventType.CREATED);
         return new PostResponse(savedPost);
     }
 
+    /**
+     * 여러 게시글을 하나의 트랜잭션에서 저장하고, 각 게시글의 CREATED 이벤트를 아웃박스에 기록합니다.
+     * 게시글과 아웃박스 모두 시퀀스 ID를 사용하므로, INSERT는 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
+     * @param requests 저장할 게시글 목록 (검증이 끝난 요청)
+     * @return 저장된 게시글 ID 목록 (요청 순서와 같음)
+     */
+    @Transactional
+    public List<Long> createPosts(List<PostCreateRequest> requests) {
+        List<Post> savedPosts = postRepository.saveAll(requests.stream().map(PostCreateRequest::toEntity).toList());
+        postOutboxRepository.saveAll(savedPosts.stream()
+                .map(post -> PostOutbox.builder()
+                        .postId(post.getId())
+                        .eventType(PostEvent.EventType.CREATED)
+                        .build())
+                .toList());
+        List<Long> ids = savedPosts.stream().map(Post::getId).toList();
+        // 호출한 쪽이 더 긴 영속성 컨텍스트를 열어 두었더라도 묶음마다 저장한 엔티티가 쌓이지 않도록,
+        // INSERT를 내보낸 뒤 영속성 컨텍스트를 비웁니다.
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
     @Transactional
     public PostResponse updatePost(Long postId, PostUpdateRequest request) {
         Post postToUpdate = postRepository.findById(postId)
                 .orElseThrow(() -> new PostNotFoundException("존재하지 않는 게시글 ID 입니다: " + postId));
         postToUpdate.update(request.getTitle(), request.getContents());
-        // DB에 commit된 후에 Kafka 메시지를 보내도록 변경
-        publishEventAfterCommit(new PostEvent(postToUpdate.getId(), PostEvent.EventType.UPDATED));
+        appendOutbox(postToUpdate.getId(), PostEvent.EventType.UPDATED);
+        postCache.invalidateAfterCommit(postId);
+        // 응답의 updatedAt(ETag)이 저장될 값과 같도록, @PreUpdate가 실행되는 flush 이후에 응답을 만듭니다.
+        postRepository.flush();
         return new PostResponse(postToUpdate);
     }
 
@@ -50,33 +73,30 @@ public class PostService {
             throw new PostNotFoundException("존재하지 않는 게시글 ID 입니다: " + postId);
         }
         postRepository.deleteById(postId);
-        // DB에 commit된 후에 Kafka 메시지를 보내도록 변경
-        publishEventAfterCommit(new PostEvent(postId, PostEvent.EventType.DELETED));
+        appendOutbox(postId, PostEvent.EventType.DELETED);
+        postCache.invalidateAfterCommit(postId);
     }
 
     /**
-     * 현재 진행중인 트랜잭션이 성공적으로 커밋된 후에만 Kafka 메시지를 발행합니다.
-     * @param event 발행할 이벤트 객체
+     * 현재 트랜잭션 안에서 아웃박스에 이벤트를 기록합니다.
+     * 게시글 변경과 함께 커밋되며, 실제 Kafka 발행은 PostOutboxRelay가 비동기로 처리합니다.
+     * @param postId 이벤트 대상 게시글 ID
+     * @param eventType 이벤트 타입
      */
-    private void publishEventAfterCommit(PostEvent event) {
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
-            @Override
-            public void afterCommit() {
-                try {
-                    String eventJson = objectMapper.writeValueAsString(event);
-                    kafkaTemplate.send(TOPIC_NAME, eventJson);
-                    log.info("Kafka message sent AFTER COMMIT: {}", eventJson);
-                } catch (JsonProcessingException e) {
-                    log.error("Failed to serialize PostEvent to JSON after commit", e);
-                }
-            }
-        });
+    private void appendOutbox(Long postId, PostEvent.EventType eventType) {
+        postOutboxRepository.save(PostOutbox.builder()
+                .postId(postId)
+                .eventType(eventType)
+                .build());
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 게시글을 조회합니다. 캐시에 있으면 DB를 조회하지 않습니다.
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 메서드 트랜잭션은 두지 않고, findById 자체의 읽기 전용 트랜잭션만 사용합니다.
+     */
     public PostResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException("존재하지 않는 게시글 ID 입니다: " + postId));
-        return new PostResponse(post);
+        return postCache.get(postId, id -> postRepository.findById(id)
+                .map(PostResponse::new)
+                .orElseThrow(() -> new PostNotFoundException("존재하지 않는 게시글 ID 입니다: " + id)));
     }
 }
@@ -0,0 +1,79 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.PostSuggestionResponse;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 검색어 자동완성(search-as-you-type) 서비스
+ * 키 입력마다 호출되므로 짧은 접두어일수록 같은 요청이 많습니다. 자주 입력되는 접두어의 결과는 짧은 시간 동안 메모리에 보관하고,
+ * Elasticsearch가 지연 시간 상한 안에 응답하지 못하면 빈 목록을 반환해 입력을 막지 않습니다.
+ */
+@Slf4j
+@Service
+public class PostSuggestService {
+
+    private final PostSearchQueryRepository postSearchQueryRepository;
+    private final Cache<String, List<PostSuggestionResponse>> prefixCache;
+    private final Duration timeout;
+    private final int maxSize;
+
+    public PostSuggestService(PostSearchQueryRepository postSearchQueryRepository,
+                              @Value("${app.suggest.cache.maximum-size:10000}") long cacheMaximumSize,
+                              @Value("${app.suggest.cache.ttl:30s}") Duration cacheTtl,
+                              @Value("${app.suggest.timeout:50ms}") Duration timeout,
+                              @Value("${app.suggest.max-size:10}") int maxSize) {
+        this.postSearchQueryRepository = postSearchQueryRepository;
+        this.prefixCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+        this.timeout = timeout;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 제목의 게시글을 찾습니다.
+     * @param prefix 사용자가 입력 중인 검색어
+     * @param size 반환할 최대 후보 수 (최대 app.suggest.max-size)
+     * @return 자동완성 후보 목록 (찾지 못했거나 시간 안에 응답하지 못하면 빈 목록)
+     */
+    public List<PostSuggestionResponse> suggest(String prefix, int size) {
+        String normalized = PostSearchCache.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int limit = Math.max(1, Math.min(size, maxSize));
+        String key = normalized + '|' + limit;
+        List<PostSuggestionResponse> cached = prefixCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        SearchResponse<PostDocument> response;
+        try {
+            response = postSearchQueryRepository.suggest(normalized, limit, timeout);
+        } catch (RuntimeException e) {
+            // 실패는 캐시하지 않으므로, 다음 입력에서 다시 조회합니다.
+            log.warn("Suggest query failed, returning no suggestions: prefix={}", normalized, e);
+            return List.of();
+        }
+        List<PostSuggestionResponse> suggestions = response.hits().hits().stream()
+                .map(hit -> PostSuggestionResponse.from(hit.source()))
+                .toList();
+        // 지연 시간 상한에 걸린 부분 결과(timed_out)는 이번 응답에만 쓰고 캐시하지 않습니다.
+        if (!response.timedOut()) {
+            prefixCache.put(key, suggestions);
+        }
+        return suggestions;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import com.example.blog_search_platform.exception.SearchTimeoutException;
+import com.example.blog_search_platform.exception.SearchUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Elasticsearch 검색 호출을 회로 차단기(circuit breaker)와 동시 실행 제한(bulkhead)으로 감싸는 클래스
+ * Elasticsearch가 느려지면 요청이 응답을 기다리며 쌓이므로, 실패나 느린 응답의 비율이 임계값을 넘으면 회로를 열어
+ * wait-duration 동안 Elasticsearch를 호출하지 않고 바로 SearchUnavailableException을 던집니다.
+ * 동시에 실행 중인 검색이 max-concurrent-calls에 도달하면 기다리지 않고 바로 거절해서, 과부하일 때 빠르게 503을 반환합니다.
+ * 검색 서비스는 이 예외를 받으면 캐시에 남은 이전 결과로 대신 응답할 수 있습니다.
+ * Elasticsearch가 요청 자체를 거부한 오류(잘못된 쿼리, 만료된 PIT 같은 4xx)는 Elasticsearch의 장애가 아니므로
+ * 실패로 세지 않고, ElasticsearchException 그대로 던져 클라이언트 오류로 응답하게 합니다.
+ */
+@Component
+public class SearchGuard implements MeterBinder {
+
+    private static final String NAME = "elasticsearch-search";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final long openRetryAfterSeconds;
+
+    public SearchGuard(@Value("${app.search.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+                       @Value("${app.search.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                       @Value("${app.search.circuit-breaker.slow-call-duration-threshold:2s}") Duration slowCallDurationThreshold,
+                       @Value("${app.search.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+                       @Value("${app.search.circuit-breaker.minimum-number-of-calls:20}") int minimumNumberOfCalls,
+                       @Value("${app.search.circuit-breaker.wait-duration-in-open-state:10s}") Duration waitDurationInOpenState) {
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                // 느린 응답도 실패와 같은 비율 기준으로 판단합니다.
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                // 전송 오류, 제한 시간 초과, 5xx/429 응답만 실패로 셉니다.
+                .recordException(SearchGuard::isServerFailure)
+                // 동시 실행 제한으로 거절된 요청은 Elasticsearch를 호출하지 않았으므로 실패로 세지 않습니다.
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+        this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.openRetryAfterSeconds = Math.max(1, waitDurationInOpenState.toSeconds());
+    }
+
+    /**
+     * Elasticsearch 검색을 실행합니다.
+     * @param search Elasticsearch를 호출하는 작업 (결과 변환 등 Elasticsearch와 관계없는 처리는 포함하지 않습니다)
+     * @return 검색 결과
+     * @throws SearchUnavailableException 회로가 열려 있거나, 동시 실행 제한에 걸렸거나, Elasticsearch 호출이 실패한 경우
+     * @throws ElasticsearchException Elasticsearch가 요청을 거부한 경우 (4xx, 429 제외)
+     */
+    public <T> T execute(Supplier<T> search) {
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, search));
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 비동기 Elasticsearch 검색을 실행합니다. 반환된 작업이 완료될 때까지 동시 실행 제한의 한 자리를 차지합니다.
+     * @see #execute(Supplier)
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> search) {
+        return CircuitBreaker.decorateCompletionStage(circuitBreaker, Bulkhead.decorateCompletionStage(bulkhead, search::get))
+                .get()
+                .toCompletableFuture()
+                .handle((result, e) -> {
+                    if (e == null) {
+                        return result;
+                    }
+                    throw translate(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                });
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(registry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(registry);
+    }
+
+    private RuntimeException translate(Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            return new SearchUnavailableException("검색 서버 장애로 검색이 일시적으로 중단되었습니다.", openRetryAfterSeconds);
+        }
+        if (e instanceof BulkheadFullException) {
+            return new SearchUnavailableException("검색 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", 1);
+        }
+        if (e instanceof SearchTimeoutException || e instanceof SearchUnavailableException) {
+            return (RuntimeException) e;
+        }
+        ElasticsearchException rejected = clientError(e);
+        if (rejected != null) {
+            return rejected;
+        }
+        return new SearchUnavailableException("검색 서버에 요청하지 못했습니다.", 1, e);
+    }
+
+    /**
+     * 회로 차단기가 실패로 세어야 하는 예외인지 확인합니다.
+     * Spring Data Elasticsearch는 클라이언트 예외를 감싸서 던지므로, 원인(cause)을 따라가며 확인합니다.
+     */
+    static boolean isServerFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ElasticsearchException elasticsearchException) {
+                int status = elasticsearchException.status();
+                return status >= 500 || status == 429;
+            }
+            if (cause instanceof IOException || cause instanceof TimeoutException || cause instanceof SearchTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Elasticsearch가 요청을 거부한 오류(4xx, 429 제외)이면 그 ElasticsearchException을 반환합니다.
+     */
+    private static ElasticsearchException clientError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ElasticsearchException elasticsearchException) {
+                int status = elasticsearchException.status();
+                return status >= 400 && status < 500 && status != 429 ? elasticsearchException : null;
+            }
+        }
+        return null;
+    }
+}
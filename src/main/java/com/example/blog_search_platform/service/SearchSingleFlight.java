@@ -0,0 +1,88 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.exception.SearchTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 들어온 같은 검색 요청을 하나의 Elasticsearch 호출로 합치는 클래스 (single-flight)
+ * 먼저 도착한 요청이 검색을 실행하고, 그 사이 같은 키로 들어온 요청은 그 결과를 함께 받습니다.
+ * 결과는 호출이 끝나는 즉시 버려지므로, 합쳐진 요청도 자신이 도착한 이후에 시작된 검색의 결과만 받습니다.
+ */
+@Component
+public class SearchSingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sharedCount = new AtomicLong();
+    private final Duration timeout;
+
+    public SearchSingleFlight(@Value("${app.search.single-flight.timeout:3s}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * 같은 키의 호출이 진행 중이면 그 결과를 기다리고, 없으면 직접 호출합니다.
+     * @param key 검색 조건으로 만든 키 ({@link PostSearchCache#keyOf})
+     * @param call 실제 검색 호출
+     * @return 검색 결과
+     * @throws SearchTimeoutException 진행 중인 호출의 결과를 timeout 안에 받지 못한 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            sharedCount.incrementAndGet();
+            return (T) await(existing);
+        }
+
+        try {
+            T result = call.get();
+            // 결과를 전달하기 전에 먼저 제거해야, 이후에 도착한 요청이 이미 끝난 호출에 합류하지 않습니다.
+            inFlight.remove(key, flight);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 다른 요청의 결과를 함께 받은 누적 횟수를 반환합니다. (절약된 Elasticsearch 호출 수)
+     */
+    public long getSharedCount() {
+        return sharedCount.get();
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new SearchTimeoutException("검색 응답 대기 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchTimeoutException("검색 응답 대기 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            // 먼저 실행한 요청과 같은 예외를 그대로 전달합니다.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
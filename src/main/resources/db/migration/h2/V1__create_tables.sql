@@ -0,0 +1,26 @@
+-- 게시글, 아웃박스, 정합성 점검 체크포인트 테이블 (H2: 로컬 실행과 테스트용)
+
+CREATE TABLE IF NOT EXISTS post (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    title      VARCHAR(200) NOT NULL,
+    contents   CLOB         NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS post_outbox (
+    id         BIGINT      NOT NULL PRIMARY KEY,
+    post_id    BIGINT      NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP(6),
+    sent_at    TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_post_outbox_sent_at ON post_outbox (sent_at);
+
+CREATE TABLE IF NOT EXISTS reconcile_checkpoint (
+    name             VARCHAR(50) NOT NULL PRIMARY KEY,
+    last_id          BIGINT      NOT NULL,
+    completed_passes BIGINT      NOT NULL,
+    updated_at       TIMESTAMP(6)
+);
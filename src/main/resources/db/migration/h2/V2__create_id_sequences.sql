@@ -0,0 +1,5 @@
+-- Post/PostOutbox의 pooled 시퀀스 (allocationSize = 100과 같은 증가폭)
+
+CREATE SEQUENCE IF NOT EXISTS post_seq START WITH 1 INCREMENT BY 100;
+
+CREATE SEQUENCE IF NOT EXISTS post_outbox_seq START WITH 1 INCREMENT BY 100;
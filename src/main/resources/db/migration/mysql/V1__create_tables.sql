@@ -0,0 +1,29 @@
+-- 게시글, 아웃박스, 정합성 점검 체크포인트 테이블
+-- 이전에 Hibernate나 수동으로 만든 테이블이 있는 DB에서도 실행되도록 없을 때만 만듭니다.
+
+CREATE TABLE IF NOT EXISTS post (
+    id         BIGINT       NOT NULL,
+    title      VARCHAR(200) NOT NULL,
+    contents   LONGTEXT     NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS post_outbox (
+    id         BIGINT      NOT NULL,
+    post_id    BIGINT      NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    created_at DATETIME(6),
+    sent_at    DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_post_outbox_sent_at (sent_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS reconcile_checkpoint (
+    name             VARCHAR(50) NOT NULL,
+    last_id          BIGINT      NOT NULL,
+    completed_passes BIGINT      NOT NULL,
+    updated_at       DATETIME(6),
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
@@ -0,0 +1,25 @@
+-- Post/PostOutbox의 ID 생성을 IDENTITY에서 pooled 시퀀스(allocationSize = 100)로 바꾸면서 필요한 시퀀스 테이블
+-- MySQL에는 시퀀스가 없으므로 Hibernate는 next_val 컬럼 하나를 가진 한 행짜리 테이블을 시퀀스로 사용합니다.
+-- Hibernate는 next_val을 읽은 값 v에 대해 (v - 99) ~ v 구간의 ID를 나눠 주므로,
+-- 기존 행과 겹치지 않도록 next_val을 MAX(id) + allocationSize + 1 이상으로 맞춥니다.
+-- 이미 더 큰 값이 들어 있으면(다른 경로로 시퀀스 테이블이 만들어진 경우) 그대로 둡니다.
+
+CREATE TABLE IF NOT EXISTS post_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO post_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM post_seq);
+
+UPDATE post_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 101 FROM post));
+
+CREATE TABLE IF NOT EXISTS post_outbox_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO post_outbox_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM post_outbox_seq);
+
+UPDATE post_outbox_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 101 FROM post_outbox));
@@ -0,0 +1,98 @@
+package com.example.blog_search_platform.codec;
+
+import com.example.blog_search_platform.dto.PostEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostEventCodecTest {
+
+    private final BinaryPostEventCodec binaryCodec = new BinaryPostEventCodec();
+    private final JsonPostEventCodec jsonCodec = new JsonPostEventCodec(Jackson2ObjectMapperBuilder.json().build());
+    private final DelegatingPostEventCodec codec = new DelegatingPostEventCodec(binaryCodec, binaryCodec, jsonCodec);
+
+    @Test
+    @DisplayName("스냅샷이 포함된 이벤트는 바이너리로 인코딩한 뒤 디코딩해도 모든 필드가 그대로 유지된다.")
+    void binaryRoundTripWithSnapshot() {
+        // given
+        PostEvent event = new PostEvent(123_456_789L, PostEvent.EventType.UPDATED,
+                "검색 제목", "본문 내용 🙂", LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_789));
+
+        // when
+        PostEvent decoded = codec.decode(codec.encode(event));
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없는 이벤트와 삭제 이벤트도 값이 없는 필드는 null로 디코딩된다.")
+    void binaryRoundTripWithoutSnapshot() {
+        // given
+        PostEvent thin = new PostEvent(1L, PostEvent.EventType.CREATED);
+        PostEvent deletion = PostEvent.deletionOf(2L, LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        // when
+        PostEvent decodedThin = codec.decode(codec.encode(thin));
+        PostEvent decodedDeletion = codec.decode(codec.encode(deletion));
+
+        // then
+        assertThat(decodedThin).usingRecursiveComparison().isEqualTo(thin);
+        assertThat(decodedThin.getTitle()).isNull();
+        assertThat(decodedDeletion).usingRecursiveComparison().isEqualTo(deletion);
+    }
+
+    @Test
+    @DisplayName("바이너리 형식이 아닌 메시지는 기존 JSON 형식으로 읽는다.")
+    void legacyJsonIsDecoded() {
+        // given
+        byte[] legacy = "{\"postId\":7,\"eventType\":\"UPDATED\",\"title\":\"제목\",\"updatedAt\":\"2024-01-01T00:00:00\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        PostEvent decoded = codec.decode(legacy);
+
+        // then
+        assertThat(decoded.getPostId()).isEqualTo(7L);
+        assertThat(decoded.getEventType()).isEqualTo(PostEvent.EventType.UPDATED);
+        assertThat(decoded.getTitle()).isEqualTo("제목");
+        assertThat(decoded.getUpdatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("바이너리 형식은 같은 이벤트의 JSON보다 작다.")
+    void binaryIsSmallerThanJson() {
+        // given
+        PostEvent event = new PostEvent(42L, PostEvent.EventType.UPDATED, "제목", "내용", LocalDateTime.now());
+
+        // when
+        byte[] binary = binaryCodec.encode(event);
+        byte[] json = jsonCodec.encode(event);
+
+        // then
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("잘렸거나 지원하지 않는 버전의 메시지는 IllegalArgumentException으로 거부된다.")
+    void malformedPayloadIsRejected() {
+        // given
+        byte[] encoded = codec.encode(new PostEvent(1L, PostEvent.EventType.UPDATED, "제목", "내용", LocalDateTime.now()));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 2);
+        byte[] unknownVersion = encoded.clone();
+        unknownVersion[1] = 99;
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode(unknownVersion)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode("not json".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
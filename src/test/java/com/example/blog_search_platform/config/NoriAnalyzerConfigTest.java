@@ -0,0 +1,85 @@
+package com.example.blog_search_platform.config;
+
+import com.example.blog_search_platform.service.PostReindexService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NoriAnalyzerConfigTest {
+
+    @InjectMocks
+    private NoriAnalyzerConfig noriAnalyzerConfig;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private PostReindexService postReindexService;
+
+    @Mock
+    private IndexOperations aliasOperations;
+
+    @BeforeEach
+    void setUp() {
+        when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(aliasOperations);
+        when(aliasOperations.exists()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("기존 인덱스에 title.autocomplete 매핑이 없으면 시작을 중단한다.")
+    void outdatedMappingFailsStartup() {
+        // given
+        when(aliasOperations.getMapping()).thenReturn(Map.of("properties", Map.of("title", Map.of("type", "text"))));
+
+        // when & then
+        assertThatThrownBy(() -> noriAnalyzerConfig.configureNoriAnalyzer())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("title.autocomplete");
+    }
+
+    @Test
+    @DisplayName("재색인으로 대신하도록 설정하면, 시작을 마친 뒤 재색인을 실행한다.")
+    void outdatedMappingTriggersReindex() {
+        // given
+        ReflectionTestUtils.setField(noriAnalyzerConfig, "reindexOnOutdatedMapping", true);
+        when(aliasOperations.getMapping()).thenReturn(Map.of("properties", Map.of("title", Map.of("type", "text"))));
+
+        // when
+        noriAnalyzerConfig.configureNoriAnalyzer();
+        noriAnalyzerConfig.reindexOutdatedMapping();
+
+        // then
+        verify(postReindexService).start();
+    }
+
+    @Test
+    @DisplayName("매핑이 최신이면 재색인을 실행하지 않는다.")
+    void currentMappingIsAccepted() {
+        // given
+        when(aliasOperations.getMapping()).thenReturn(Map.of("properties", Map.of("title", Map.of(
+                "type", "text",
+                "fields", Map.of("autocomplete", Map.of("type", "text"))))));
+
+        // when
+        noriAnalyzerConfig.configureNoriAnalyzer();
+        noriAnalyzerConfig.reindexOutdatedMapping();
+
+        // then
+        verifyNoInteractions(postReindexService);
+    }
+}
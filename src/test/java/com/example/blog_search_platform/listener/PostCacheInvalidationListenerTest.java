@@ -0,0 +1,73 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.service.PostCache;
+import com.example.blog_search_platform.service.PostSearchCache;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCacheInvalidationListenerTest {
+
+    @InjectMocks
+    private PostCacheInvalidationListener postCacheInvalidationListener;
+
+    @Mock
+    private PostCache postCache;
+
+    @Mock
+    private PostSearchCache postSearchCache;
+
+    @Spy
+    private PostEventCodec postEventCodec = new BinaryPostEventCodec();
+
+    @Test
+    @DisplayName("파티션을 할당받으면 시작 이전의 이벤트를 건너뛰도록 끝 오프셋으로 이동한다.")
+    void assignedPartitionsSeekToEnd() {
+        // given
+        Map<TopicPartition, Long> assignments = Map.of(
+                new TopicPartition(KafkaTopicConfig.POST_EVENTS, 0), 10L,
+                new TopicPartition(KafkaTopicConfig.POST_EVENTS, 1), 20L);
+        ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+
+        // when
+        postCacheInvalidationListener.onPartitionsAssigned(assignments, callback);
+
+        // then
+        verify(callback).seekToEnd(assignments.keySet());
+    }
+
+    @Test
+    @DisplayName("레코드 키가 없으면 메시지 본문에서 게시글 ID를 읽어 캐시에서 제거하고, 검색 결과 캐시의 세대를 올린다.")
+    void postIdIsReadFromKeyOrBody() {
+        // given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                new ConsumerRecord<>(KafkaTopicConfig.POST_EVENTS, 0, 0L, "1", new byte[0]),
+                new ConsumerRecord<>(KafkaTopicConfig.POST_EVENTS, 0, 1L, null,
+                        postEventCodec.encode(new PostEvent(2L, PostEvent.EventType.DELETED))));
+
+        // when
+        postCacheInvalidationListener.invalidate(records);
+
+        // then
+        verify(postCache).invalidateAll(Set.of(1L, 2L));
+        verify(postSearchCache).bumpGeneration();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.dto.PostEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostEventCoalescerTest {
+
+    private final PostEventCoalescer postEventCoalescer = new PostEventCoalescer();
+
+    @Test
+    @DisplayName("같은 게시글의 UPDATED 이벤트가 여러 번 들어오면, 하나만 남고 합쳐진 개수가 집계된다.")
+    void coalesceRepeatedUpdates() {
+        // given
+        List<PostEvent> events = List.of(
+                new PostEvent(1L, PostEvent.EventType.CREATED),
+                new PostEvent(1L, PostEvent.EventType.UPDATED),
+                new PostEvent(1L, PostEvent.EventType.UPDATED),
+                new PostEvent(2L, PostEvent.EventType.UPDATED)
+        );
+
+        // when
+        List<PostEvent> survivors = postEventCoalescer.coalesce(events);
+
+        // then
+        assertThat(survivors).hasSize(2);
+        assertThat(survivors.get(0).getPostId()).isEqualTo(1L);
+        assertThat(survivors.get(0).getEventType()).isEqualTo(PostEvent.EventType.UPDATED);
+        assertThat(postEventCoalescer.getCollapsedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("DELETED 이벤트는 앞뒤의 CREATED/UPDATED 이벤트보다 우선한다.")
+    void deletedEventWins() {
+        // given
+        List<PostEvent> events = List.of(
+                new PostEvent(1L, PostEvent.EventType.UPDATED),
+                new PostEvent(1L, PostEvent.EventType.DELETED),
+                new PostEvent(1L, PostEvent.EventType.UPDATED)
+        );
+
+        // when
+        List<PostEvent> survivors = postEventCoalescer.coalesce(events);
+
+        // then
+        assertThat(survivors).hasSize(1);
+        assertThat(survivors.get(0).getEventType()).isEqualTo(PostEvent.EventType.DELETED);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.dto.PostEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostEventRetryPublisherTest {
+
+    @InjectMocks
+    private PostEventRetryPublisher postEventRetryPublisher;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Spy
+    private PostEventCodec postEventCodec = new BinaryPostEventCodec();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postEventRetryPublisher, "sendTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(postEventRetryPublisher, "initialDelayMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("모든 전송이 확인되면 예외 없이 끝난다.")
+    @SuppressWarnings("unchecked")
+    void sendToRetryWaitsForAcks() {
+        // given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // when
+        postEventRetryPublisher.sendToRetry(List.of(new PostEvent(1L, PostEvent.EventType.UPDATED),
+                new PostEvent(2L, PostEvent.EventType.UPDATED)));
+
+        // then
+        verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("재시도 이벤트는 첫 번째 지연 토픽으로 보내고, 첫 재시도 시각을 헤더에 담는다.")
+    @SuppressWarnings("unchecked")
+    void sendToRetryDelaysFirstAttempt() {
+        // given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        long before = System.currentTimeMillis();
+
+        // when
+        postEventRetryPublisher.sendToRetry(List.of(new PostEvent(1L, PostEvent.EventType.UPDATED)));
+
+        // then
+        ArgumentCaptor<ProducerRecord<String, byte[]>> recordCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(recordCaptor.capture());
+        ProducerRecord<String, byte[]> record = recordCaptor.getValue();
+        assertThat(record.topic()).isEqualTo(KafkaTopicConfig.POST_EVENTS_RETRY_FIRST_DELAY);
+        assertThat(record.key()).isEqualTo("1");
+        long backoffTimestamp = new BigInteger(
+                record.headers().lastHeader(RetryTopicHeaders.DEFAULT_HEADER_BACKOFF_TIMESTAMP).value()).longValue();
+        assertThat(backoffTimestamp).isGreaterThanOrEqualTo(before + 1000L);
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 전송 중 하나라도 실패하면 예외를 던져, 배치가 다시 전달되게 한다.")
+    @SuppressWarnings("unchecked")
+    void sendToRetryThrowsWhenAckFails() {
+        // given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("not enough replicas")));
+        List<PostEvent> events = List.of(new PostEvent(1L, PostEvent.EventType.UPDATED),
+                new PostEvent(2L, PostEvent.EventType.UPDATED));
+
+        // when & then
+        assertThatThrownBy(() -> postEventRetryPublisher.sendToRetry(events))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Failed to forward");
+    }
+
+    @Test
+    @DisplayName("DLT 전송이 제한 시간 안에 확인되지 않으면 예외를 던진다.")
+    void sendToDeadLetterThrowsWhenAckTimesOut() {
+        // given
+        ReflectionTestUtils.setField(postEventRetryPublisher, "sendTimeout", Duration.ofMillis(10));
+        when(kafkaTemplate.send(eq(KafkaTopicConfig.POST_EVENTS_DLT), any(String.class), any(byte[].class)))
+                .thenReturn(new CompletableFuture<>());
+        List<PostEvent> events = List.of(new PostEvent(1L, PostEvent.EventType.UPDATED));
+
+        // when & then
+        assertThatThrownBy(() -> postEventRetryPublisher.sendToDeadLetter(events))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.metrics.LogSampler;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.service.PostIndexingService;
+import com.example.blog_search_platform.service.PostSearchCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostKafkaConsumerTest {
+
+    @InjectMocks
+    private PostKafkaConsumer postKafkaConsumer;
+
+    @Mock
+    private PostIndexingService postIndexingService;
+
+    @Spy
+    private PostEventCoalescer postEventCoalescer = new PostEventCoalescer();
+
+    @Mock
+    private PostEventRetryPublisher postEventRetryPublisher;
+
+    @Mock
+    private PostSearchCache postSearchCache;
+
+    @Spy
+    private PostEventCodec postEventCodec = new BinaryPostEventCodec();
+
+    @Spy
+    private PostPipelineMetrics postPipelineMetrics = new PostPipelineMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private LogSampler logSampler = new LogSampler(Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("과부하(429)와 서버 오류(5xx)로 실패한 이벤트는 재시도 토픽으로, 그 외(4xx)는 DLT로 보낸다.")
+    @SuppressWarnings("unchecked")
+    void failuresAreRoutedByStatus() {
+        // given
+        List<byte[]> messages = List.of(encode(1L), encode(2L), encode(3L), encode(4L));
+        when(postIndexingService.index(anyList())).thenReturn(new BulkIndexResult(4, List.of(
+                new BulkIndexResult.ItemFailure(1L, 429, "es_rejected_execution_exception", "queue full"),
+                new BulkIndexResult.ItemFailure(2L, 503, "unavailable_shards_exception", "primary shard is not active"),
+                new BulkIndexResult.ItemFailure(3L, 400, "mapper_parsing_exception", "failed to parse field"))));
+
+        // when
+        postKafkaConsumer.consumePostEvents(messages, List.of(0L, 0L, 0L, 0L));
+
+        // then
+        ArgumentCaptor<Collection<PostEvent>> retryCaptor = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<PostEvent>> deadLetterCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(postEventRetryPublisher).sendToRetry(retryCaptor.capture());
+        verify(postEventRetryPublisher).sendToDeadLetter(deadLetterCaptor.capture());
+        assertThat(retryCaptor.getValue()).extracting(PostEvent::getPostId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(deadLetterCaptor.getValue()).extracting(PostEvent::getPostId).containsExactly(3L);
+        verify(postSearchCache).bumpGeneration();
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 요청 자체가 실패하면, 배치 전체를 재시도 토픽으로 보낸다.")
+    @SuppressWarnings("unchecked")
+    void bulkRequestFailureForwardsWholeBatchToRetry() {
+        // given
+        when(postIndexingService.index(anyList())).thenThrow(new IllegalStateException("connection refused"));
+
+        // when
+        postKafkaConsumer.consumePostEvents(List.of(encode(1L), encode(2L)), List.of(0L, 0L));
+
+        // then
+        ArgumentCaptor<Collection<PostEvent>> retryCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(postEventRetryPublisher).sendToRetry(retryCaptor.capture());
+        assertThat(retryCaptor.getValue()).extracting(PostEvent::getPostId).containsExactly(1L, 2L);
+        verify(postEventRetryPublisher, never()).sendToDeadLetter(anyCollection());
+        verify(postSearchCache, never()).bumpGeneration();
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 메시지는 원본 그대로 DLT로 보내고, 나머지 메시지는 색인한다.")
+    void undecodableMessageIsSentRawToDeadLetter() {
+        // given
+        byte[] malformed = "not a post event".getBytes(StandardCharsets.UTF_8);
+        when(postIndexingService.index(anyList())).thenReturn(new BulkIndexResult(1, List.of()));
+
+        // when
+        postKafkaConsumer.consumePostEvents(List.of(malformed, encode(1L)), List.of(0L, 0L));
+
+        // then
+        verify(postEventRetryPublisher).sendRawToDeadLetter(malformed);
+        verify(postIndexingService).index(argThat(events -> events.size() == 1 && events.get(0).getPostId() == 1L));
+    }
+
+    private byte[] encode(Long postId) {
+        return postEventCodec.encode(new PostEvent(postId, PostEvent.EventType.UPDATED, "제목", "내용", LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.blog_search_platform.listener;
+
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.exception.IndexingFailedException;
+import com.example.blog_search_platform.exception.NonRetryableIndexingException;
+import com.example.blog_search_platform.service.PostIndexingService;
+import com.example.blog_search_platform.service.PostSearchCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostRetryConsumerTest {
+
+    @InjectMocks
+    private PostRetryConsumer postRetryConsumer;
+
+    @Mock
+    private PostIndexingService postIndexingService;
+
+    @Mock
+    private PostSearchCache postSearchCache;
+
+    @Spy
+    private PostEventCodec postEventCodec = new BinaryPostEventCodec();
+
+    @Test
+    @DisplayName("일시적인 실패(5xx)는 IndexingFailedException으로 다음 재시도 단계로 넘긴다.")
+    void retryableFailureMovesToNextAttempt() {
+        // given
+        when(postIndexingService.index(anyList())).thenReturn(new BulkIndexResult(1, List.of(
+                new BulkIndexResult.ItemFailure(1L, 503, "unavailable_shards_exception", "primary shard is not active"))));
+
+        // when & then
+        assertThatThrownBy(() -> postRetryConsumer.consumeRetryEvent(encode(1L)))
+                .isInstanceOf(IndexingFailedException.class);
+    }
+
+    @Test
+    @DisplayName("재시도해도 성공할 수 없는 실패(4xx)는 NonRetryableIndexingException으로 바로 DLT로 보낸다.")
+    void nonRetryableFailureGoesToDeadLetter() {
+        // given
+        when(postIndexingService.index(anyList())).thenReturn(new BulkIndexResult(1, List.of(
+                new BulkIndexResult.ItemFailure(1L, 400, "mapper_parsing_exception", "failed to parse field"))));
+
+        // when & then
+        assertThatThrownBy(() -> postRetryConsumer.consumeRetryEvent(encode(1L)))
+                .isInstanceOf(NonRetryableIndexingException.class);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 메시지는 색인하지 않고 NonRetryableIndexingException으로 바로 DLT로 보낸다.")
+    void undecodableMessageGoesToDeadLetter() {
+        // given
+        byte[] malformed = "not a post event".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> postRetryConsumer.consumeRetryEvent(malformed))
+                .isInstanceOf(NonRetryableIndexingException.class);
+        verify(postIndexingService, never()).index(anyList());
+    }
+
+    @Test
+    @DisplayName("색인 과정에서 발생한 다른 IllegalArgumentException은 재시도 대상으로 남는다.")
+    void unrelatedIllegalArgumentIsNotTreatedAsNonRetryable() {
+        // given
+        when(postIndexingService.index(anyList())).thenThrow(new IllegalArgumentException("unexpected client state"));
+
+        // when & then
+        assertThatThrownBy(() -> postRetryConsumer.consumeRetryEvent(encode(1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .isNotInstanceOf(NonRetryableIndexingException.class);
+    }
+
+    private byte[] encode(Long postId) {
+        return postEventCodec.encode(new PostEvent(postId, PostEvent.EventType.UPDATED));
+    }
+}
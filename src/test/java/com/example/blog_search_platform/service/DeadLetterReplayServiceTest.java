@@ -0,0 +1,115 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.dto.DeadLetterReplayResponse;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition(KafkaTopicConfig.POST_EVENTS_DLT, 0);
+
+    @InjectMocks
+    private DeadLetterReplayService deadLetterReplayService;
+
+    @Mock
+    private ConsumerFactory<String, byte[]> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    // 재처리가 끝난 뒤에도 커밋된 오프셋을 확인할 수 있도록 close를 무시합니다.
+    private final MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+        @Override
+        public synchronized void close() {
+        }
+    };
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(deadLetterReplayService, "sendTimeout", Duration.ofSeconds(1));
+        lenient().when(consumerFactory.createConsumer(anyString(), anyString(), isNull(), any(Properties.class))).thenReturn(consumer);
+        lenient().when(kafkaTemplate.send(eq(KafkaTopicConfig.POST_EVENTS), any(), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+    }
+
+    @Test
+    @DisplayName("한 번의 poll로 받은 레코드가 maxRecords보다 많아도, maxRecords 건까지만 재발행하고 커밋한다.")
+    void replayStopsAtMaxRecords() {
+        // given
+        consumer.updatePartitions(KafkaTopicConfig.POST_EVENTS_DLT,
+                List.of(new PartitionInfo(KafkaTopicConfig.POST_EVENTS_DLT, 0, Node.noNode(), new Node[0], new Node[0])));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.schedulePollTask(() -> {
+            for (long offset = 0; offset < 5; offset++) {
+                consumer.addRecord(new ConsumerRecord<>(KafkaTopicConfig.POST_EVENTS_DLT, 0, offset,
+                        String.valueOf(offset), new byte[]{(byte) offset}));
+            }
+        });
+
+        // when
+        DeadLetterReplayResponse response = deadLetterReplayService.replay(3);
+
+        // then
+        assertThat(response.getReplayed()).isEqualTo(3);
+        verify(kafkaTemplate, times(3)).send(eq(KafkaTopicConfig.POST_EVENTS), any(), any(byte[].class));
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.of(PARTITION));
+        assertThat(committed.get(PARTITION).offset()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("DLT 토픽이 아직 없으면, 재처리할 레코드가 없다는 결과를 반환한다.")
+    void missingDeadLetterTopicReturnsNothingToReplay() {
+        // given: DLT 토픽의 파티션 정보가 없습니다.
+
+        // when
+        DeadLetterReplayResponse response = deadLetterReplayService.replay(100);
+
+        // then
+        assertThat(response.getReplayed()).isZero();
+        assertThat(response.getMessage()).isNotNull();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("maxRecords가 0 이하이면 컨슈머를 만들지 않고, 재처리할 레코드가 없다는 결과를 반환한다.")
+    void nonPositiveMaxRecordsReturnsNothingToReplay() {
+        // when
+        DeadLetterReplayResponse response = deadLetterReplayService.replay(0);
+
+        // then
+        assertThat(response.getReplayed()).isZero();
+        assertThat(response.getMessage()).contains("maxRecords");
+        verifyNoInteractions(consumerFactory, kafkaTemplate);
+    }
+}
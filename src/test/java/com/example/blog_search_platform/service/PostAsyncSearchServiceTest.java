@@ -0,0 +1,155 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch.core.CountResponse;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.PostSearchOverviewResponse;
+import com.example.blog_search_platform.exception.SearchTimeoutException;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.repository.elasticsearch.PostAsyncSearchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostAsyncSearchServiceTest {
+
+    @InjectMocks
+    private PostAsyncSearchService postAsyncSearchService;
+
+    @Mock
+    private PostAsyncSearchRepository postAsyncSearchRepository;
+
+    @Spy
+    private PostPipelineMetrics postPipelineMetrics = new PostPipelineMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private SearchGuard searchGuard = new SearchGuard(10, 50, Duration.ofSeconds(2), 10, 5, Duration.ofSeconds(10));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postAsyncSearchService, "timeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(postAsyncSearchService, "suggestTimeout", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(postAsyncSearchService, "suggestMaxSize", 10);
+    }
+
+    @Test
+    @DisplayName("검색, 건수, 자동완성 요청을 모두 보낸 뒤 결과를 하나의 응답으로 합친다.")
+    void searchFansOutAndMergesResults() {
+        // given
+        CompletableFuture<SearchResponse<PostDocument>> searchFuture = new CompletableFuture<>();
+        CompletableFuture<CountResponse> countFuture = new CompletableFuture<>();
+        CompletableFuture<SearchResponse<PostDocument>> suggestFuture = new CompletableFuture<>();
+        when(postAsyncSearchRepository.search("자바", 10, 10, false)).thenReturn(searchFuture);
+        when(postAsyncSearchRepository.count("자바")).thenReturn(countFuture);
+        when(postAsyncSearchRepository.suggest(eq("자바"), eq(5), any())).thenReturn(suggestFuture);
+
+        // when
+        CompletableFuture<PostSearchOverviewResponse> result =
+                postAsyncSearchService.search("자바", PageRequest.of(1, 10), 5, false);
+
+        // then
+        // 어느 응답도 도착하기 전에 세 요청이 모두 전송된다.
+        verify(postAsyncSearchRepository).search("자바", 10, 10, false);
+        verify(postAsyncSearchRepository).count("자바");
+        verify(postAsyncSearchRepository).suggest(eq("자바"), eq(5), any());
+        assertThat(result).isNotDone();
+
+        searchFuture.complete(searchResponse(hit(1L, "자바 입문", "맛있는 <em>자바</em>")));
+        countFuture.complete(countResponse(42L));
+        suggestFuture.complete(searchResponse(hit(2L, "자바 스프링", null)));
+
+        PostSearchOverviewResponse response = result.join();
+        assertThat(response.getContent()).singleElement()
+                .satisfies(post -> {
+                    assertThat(post.getId()).isEqualTo(1L);
+                    assertThat(post.getSnippet()).isEqualTo("맛있는 <em>자바</em>");
+                });
+        assertThat(response.getTotalHits()).isEqualTo(42L);
+        assertThat(response.getPage()).isEqualTo(1);
+        assertThat(response.getSuggestions()).extracting("title").containsExactly("자바 스프링");
+    }
+
+    @Test
+    @DisplayName("자동완성 요청이 실패해도, 빈 자동완성 목록과 함께 검색 결과를 반환한다.")
+    void suggestFailureDoesNotFailSearch() {
+        // given
+        when(postAsyncSearchRepository.search("자바", 0, 10, false))
+                .thenReturn(CompletableFuture.completedFuture(searchResponse(hit(1L, "자바 입문", null))));
+        when(postAsyncSearchRepository.count("자바")).thenReturn(CompletableFuture.completedFuture(countResponse(1L)));
+        when(postAsyncSearchRepository.suggest(eq("자바"), eq(5), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("suggest failed")));
+
+        // when
+        PostSearchOverviewResponse response = postAsyncSearchService.search("자바", PageRequest.of(0, 10), 5, false).join();
+
+        // then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getSuggestions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 모든 응답을 받지 못하면 SearchTimeoutException으로 완료된다.")
+    void searchTimesOut() {
+        // given
+        ReflectionTestUtils.setField(postAsyncSearchService, "timeout", Duration.ofMillis(10));
+        when(postAsyncSearchRepository.search("자바", 0, 10, false)).thenReturn(new CompletableFuture<>());
+        when(postAsyncSearchRepository.count("자바")).thenReturn(CompletableFuture.completedFuture(countResponse(1L)));
+        when(postAsyncSearchRepository.suggest(eq("자바"), eq(5), any()))
+                .thenReturn(CompletableFuture.completedFuture(searchResponse()));
+
+        // when
+        CompletableFuture<PostSearchOverviewResponse> result =
+                postAsyncSearchService.search("자바", PageRequest.of(0, 10), 5, false);
+
+        // then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(SearchTimeoutException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Hit<PostDocument> hit(Long id, String title, String snippet) {
+        Hit<PostDocument> hit = mock(Hit.class);
+        lenient().when(hit.source()).thenReturn(PostDocument.builder().id(id).title(title).build());
+        lenient().when(hit.highlight()).thenReturn(snippet == null ? Map.of() : Map.of("contents", List.of(snippet)));
+        return hit;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private SearchResponse<PostDocument> searchResponse(Hit<PostDocument>... hits) {
+        HitsMetadata<PostDocument> metadata = mock(HitsMetadata.class);
+        when(metadata.hits()).thenReturn(List.of(hits));
+        SearchResponse<PostDocument> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(metadata);
+        return response;
+    }
+
+    private CountResponse countResponse(long count) {
+        CountResponse response = mock(CountResponse.class);
+        when(response.count()).thenReturn(count);
+        return response;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.dto.PostCreateRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostBulkImportServiceTest {
+
+    @InjectMocks
+    private PostBulkImportService postBulkImportService;
+
+    @Mock
+    private PostService postService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("NDJSON 요청은 chunk-size 단위로 저장되고, 항목마다 결과가 한 줄씩 기록된다.")
+    void importNdjsonInChunks() throws IOException {
+        // given
+        ReflectionTestUtils.setField(postBulkImportService, "chunkSize", 2);
+        stubCreatePosts();
+        String body = """
+                {"title":"제목1","contents":"내용1"}
+                {"title":"제목2","contents":"내용2"}
+                {"title":"제목3","contents":"내용3"}
+                """;
+
+        // when
+        List<JsonNode> results = importPosts(body);
+
+        // then
+        verify(postService, times(2)).createPosts(anyList());
+        assertThat(results).extracting(result -> result.get("index").asInt()).containsExactly(0, 1, 2);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.get("status").asInt()).isEqualTo(201);
+            assertThat(result.has("id")).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("JSON 배열 요청에서 검증에 실패한 항목은 저장하지 않고 400으로 기록한다.")
+    void invalidItemIsRejected() throws IOException {
+        // given
+        ReflectionTestUtils.setField(postBulkImportService, "chunkSize", 500);
+        stubCreatePosts();
+        String body = """
+                [{"title":"제목1","contents":"내용1"}, {"title":" ","contents":"내용2"}, {"title":"제목3","contents":"내용3"}]
+                """;
+
+        // when
+        List<JsonNode> results = importPosts(body);
+
+        // then
+        verify(postService, times(1)).createPosts(anyList());
+        assertThat(results).extracting(result -> result.get("index").asInt()).containsExactlyInAnyOrder(0, 1, 2);
+        JsonNode rejected = results.stream().filter(result -> result.get("index").asInt() == 1).findFirst().orElseThrow();
+        assertThat(rejected.get("status").asInt()).isEqualTo(400);
+        assertThat(rejected.has("id")).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 형식이 깨진 위치에서 오류를 기록하고, 이전 항목까지만 저장한다.")
+    void malformedJsonStopsImport() throws IOException {
+        // given
+        ReflectionTestUtils.setField(postBulkImportService, "chunkSize", 500);
+        stubCreatePosts();
+        String body = """
+                {"title":"제목1","contents":"내용1"}
+                {"title":"제목2",
+                """;
+
+        // when
+        List<JsonNode> results = importPosts(body);
+
+        // then
+        verify(postService, times(1)).createPosts(argThat(requests -> requests.size() == 1));
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).get("status").asInt()).isEqualTo(400);
+        assertThat(results.get(0).get("index").asInt()).isEqualTo(1);
+        assertThat(results.get(1).get("status").asInt()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("묶음 저장에 실패하면 나눠서 다시 저장해, 실패의 원인인 항목만 내부 정보 없이 500으로 기록한다.")
+    void onlyFailingItemIsReported() throws IOException {
+        // given
+        ReflectionTestUtils.setField(postBulkImportService, "chunkSize", 500);
+        AtomicLong sequence = new AtomicLong();
+        when(postService.createPosts(anyList())).thenAnswer(invocation -> {
+            List<PostCreateRequest> requests = invocation.getArgument(0);
+            if (requests.stream().anyMatch(request -> request.getTitle().equals("제목3"))) {
+                throw new DataIntegrityViolationException("could not execute statement [Duplicate entry] [insert into post ...]");
+            }
+            List<Long> ids = new ArrayList<>();
+            requests.forEach(request -> ids.add(sequence.incrementAndGet()));
+            return ids;
+        });
+        String body = """
+                {"title":"제목1","contents":"내용1"}
+                {"title":"제목2","contents":"내용2"}
+                {"title":"제목3","contents":"내용3"}
+                {"title":"제목4","contents":"내용4"}
+                """;
+
+        // when
+        List<JsonNode> results = importPosts(body);
+
+        // then
+        assertThat(results).extracting(result -> result.get("index").asInt()).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(result -> result.get("status").asInt()).containsExactly(201, 201, 500, 201);
+        assertThat(results.get(2).get("error").asText()).isEqualTo("저장에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("DB 연결 장애처럼 일시적인 실패는 나누지 않고, 해당 묶음의 모든 항목을 503으로 기록한다.")
+    void transientFailureFailsWholeChunk() throws IOException {
+        // given
+        ReflectionTestUtils.setField(postBulkImportService, "chunkSize", 500);
+        when(postService.createPosts(anyList())).thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        String body = """
+                {"title":"제목1","contents":"내용1"}
+                {"title":"제목2","contents":"내용2"}
+                """;
+
+        // when
+        List<JsonNode> results = importPosts(body);
+
+        // then
+        verify(postService, times(1)).createPosts(anyList());
+        assertThat(results).hasSize(2).allSatisfy(result -> assertThat(result.get("status").asInt()).isEqualTo(503));
+    }
+
+    private void stubCreatePosts() {
+        AtomicLong sequence = new AtomicLong();
+        when(postService.createPosts(anyList())).thenAnswer(invocation -> {
+            List<PostCreateRequest> requests = invocation.getArgument(0);
+            List<Long> ids = new ArrayList<>();
+            requests.forEach(request -> ids.add(sequence.incrementAndGet()));
+            return ids;
+        });
+    }
+
+    private List<JsonNode> importPosts(String body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        postBulkImportService.importPosts(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+        List<JsonNode> results = new ArrayList<>();
+        objectMapper.readerFor(JsonNode.class).readValues(output.toByteArray()).forEachRemaining(node -> results.add((JsonNode) node));
+        return results;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.PostResponse;
+import com.example.blog_search_platform.repository.PostRepository;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostExportServiceTest {
+
+    @InjectMocks
+    private PostExportService postExportService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostSearchQueryRepository postSearchQueryRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postExportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(postExportService, "pitKeepAlive", Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("게시글 전체를 키셋 페이징으로 이어서 읽고, 한 줄에 하나씩 내보낸다.")
+    void exportPostsWithKeyset() throws IOException {
+        // given
+        when(postRepository.findResponsesAfter(eq(0L), any(Limit.class))).thenReturn(List.of(post(1L), post(2L)));
+        when(postRepository.findResponsesAfter(eq(2L), any(Limit.class))).thenReturn(List.of(post(3L)));
+        when(postRepository.findResponsesAfter(eq(3L), any(Limit.class))).thenReturn(List.of());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        long exported = postExportService.exportPosts(output);
+
+        // then
+        assertThat(exported).isEqualTo(3);
+        assertThat(output.toString().split("\n")).hasSize(3)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+    }
+
+    @Test
+    @DisplayName("검색 결과를 PIT와 search_after로 이어서 내보내고, 끝나면 PIT를 닫는다.")
+    void exportSearchHitsWithPit() throws IOException {
+        // given
+        when(postSearchQueryRepository.openPointInTime(any())).thenReturn("pit-1");
+        SearchResponse<PostDocument> first = searchResponse("pit-2", hit(1L), hit(2L));
+        SearchResponse<PostDocument> second = searchResponse("pit-2", hit(3L));
+        when(postSearchQueryRepository.searchAfter(eq("검색"), eq(2), isNull(), eq("pit-1"), any(), eq(false))).thenReturn(first);
+        when(postSearchQueryRepository.searchAfter(eq("검색"), eq(2), eq(List.of(1.0, 2)), eq("pit-2"), any(), eq(false))).thenReturn(second);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        long exported = postExportService.exportSearchHits("검색", false, output);
+
+        // then
+        assertThat(exported).isEqualTo(3);
+        assertThat(output.toString().split("\n")).hasSize(3);
+        verify(postSearchQueryRepository).closePointInTime("pit-2");
+    }
+
+    @Test
+    @DisplayName("내보내는 도중 쓰기에 실패해도 PIT를 닫는다.")
+    void pitIsClosedWhenWriteFails() throws IOException {
+        // given
+        when(postSearchQueryRepository.openPointInTime(any())).thenReturn("pit-1");
+        SearchResponse<PostDocument> response = searchResponse(null, hit(1L));
+        when(postSearchQueryRepository.searchAfter(anyString(), anyInt(), any(), anyString(), any(), anyBoolean())).thenReturn(response);
+        OutputStream brokenOutput = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("연결이 끊겼습니다.");
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> postExportService.exportSearchHits("검색", false, brokenOutput))
+                .isInstanceOf(IOException.class);
+        verify(postSearchQueryRepository).closePointInTime("pit-1");
+    }
+
+    @Test
+    @DisplayName("PIT를 연 직후 첫 검색이 실패해도 PIT를 닫고, 닫기 실패가 원래 예외를 가리지 않는다.")
+    void pitIsClosedWhenFirstSearchFails() {
+        // given
+        when(postSearchQueryRepository.openPointInTime(any())).thenReturn("pit-1");
+        when(postSearchQueryRepository.searchAfter(anyString(), anyInt(), any(), anyString(), any(), anyBoolean()))
+                .thenThrow(new IllegalStateException("search_phase_execution_exception"));
+        doThrow(new IllegalStateException("close failed")).when(postSearchQueryRepository).closePointInTime("pit-1");
+
+        // when & then
+        assertThatThrownBy(() -> postExportService.exportSearchHits("검색", false, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("search_phase_execution_exception");
+        verify(postSearchQueryRepository).closePointInTime("pit-1");
+    }
+
+    private PostResponse post(Long id) {
+        return new PostResponse(id, "제목" + id, "내용" + id, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Hit<PostDocument> hit(Long id) {
+        Hit<PostDocument> hit = mock(Hit.class);
+        when(hit.source()).thenReturn(PostDocument.builder().id(id).title("제목" + id).contents("내용" + id).build());
+        lenient().when(hit.sort()).thenReturn(List.of(FieldValue.of(1.0), FieldValue.of(id)));
+        return hit;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private SearchResponse<PostDocument> searchResponse(String pitId, Hit<PostDocument>... hits) {
+        HitsMetadata<PostDocument> metadata = mock(HitsMetadata.class);
+        when(metadata.hits()).thenReturn(List.of(hits));
+        SearchResponse<PostDocument> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(metadata);
+        when(response.pitId()).thenReturn(pitId);
+        return response;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.repository.PostRepository;
+import com.example.blog_search_platform.repository.elasticsearch.PostBulkIndexer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostIndexingServiceTest {
+
+    @InjectMocks
+    private PostIndexingService postIndexingService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostBulkIndexer postBulkIndexer;
+
+    @Mock
+    private IndexingWorkerPool indexingWorkerPool;
+
+    @Spy
+    private PostPipelineMetrics postPipelineMetrics = new PostPipelineMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("이벤트 묶음을 처리하면, DB 조회 1회와 bulk 요청 1회로 반영된다.")
+    @SuppressWarnings("unchecked")
+    void indexBatchWithSingleLookupAndBulk() {
+        // given
+        List<PostEvent> events = List.of(
+                new PostEvent(1L, PostEvent.EventType.CREATED),
+                new PostEvent(2L, PostEvent.EventType.UPDATED),
+                new PostEvent(3L, PostEvent.EventType.DELETED)
+        );
+        when(postRepository.findAllById(any())).thenReturn(List.of(
+                Post.builder().title("제목1").contents("내용1").build(),
+                Post.builder().title("제목2").contents("내용2").build()
+        ));
+        when(postBulkIndexer.bulk(isNull(), anyList(), anyMap())).thenReturn(new BulkIndexResult(3, List.of()));
+
+        // when
+        BulkIndexResult result = postIndexingService.index(events);
+
+        // then
+        ArgumentCaptor<Iterable<Long>> idsCaptor = ArgumentCaptor.forClass(Iterable.class);
+        ArgumentCaptor<List<PostDocument>> documentsCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Map<Long, Long>> deletedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(postRepository, times(1)).findAllById(idsCaptor.capture());
+        verify(postBulkIndexer, times(1)).bulk(isNull(), documentsCaptor.capture(), deletedCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsExactly(1L, 2L);
+        assertThat(documentsCaptor.getValue()).hasSize(2);
+        assertThat(deletedCaptor.getValue()).containsOnlyKeys(3L);
+        assertThat(result.hasFailures()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 묶음에서 삭제된 게시글은 DB에서 조회하지 않고, 삭제 시각을 버전으로 삭제만 요청한다.")
+    @SuppressWarnings("unchecked")
+    void deletedPostIsNotFetched() {
+        // given
+        List<PostEvent> events = List.of(
+                new PostEvent(1L, PostEvent.EventType.UPDATED),
+                PostEvent.deletionOf(1L, LocalDateTime.of(2024, 1, 1, 0, 0))
+        );
+        when(postBulkIndexer.bulk(isNull(), anyList(), anyMap())).thenReturn(new BulkIndexResult(1, List.of()));
+
+        // when
+        postIndexingService.index(events);
+
+        // then
+        ArgumentCaptor<Map<Long, Long>> deletedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(postRepository, never()).findAllById(any());
+        verify(postBulkIndexer).bulk(isNull(), eq(List.of()), deletedCaptor.capture());
+        assertThat(deletedCaptor.getValue()).containsEntry(1L, PostDocument.versionOf(LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 포함된 이벤트는 DB를 조회하지 않고 이벤트 내용으로 바로 색인한다.")
+    @SuppressWarnings("unchecked")
+    void snapshotEventIsIndexedWithoutLookup() {
+        // given
+        PostEvent event = new PostEvent(1L, PostEvent.EventType.UPDATED, "스냅샷 제목", "스냅샷 내용", LocalDateTime.now());
+        when(postBulkIndexer.bulk(isNull(), anyList(), anyMap())).thenReturn(new BulkIndexResult(1, List.of()));
+
+        // when
+        postIndexingService.index(List.of(event));
+
+        // then
+        ArgumentCaptor<List<PostDocument>> documentsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(postRepository, never()).findAllById(any());
+        verify(postBulkIndexer).bulk(isNull(), documentsCaptor.capture(), anyMap());
+        assertThat(documentsCaptor.getValue()).singleElement()
+                .satisfies(document -> {
+                    assertThat(document.getId()).isEqualTo(1L);
+                    assertThat(document.getTitle()).isEqualTo("스냅샷 제목");
+                    assertThat(document.getVersion()).isEqualTo(PostDocument.versionOf(event.getUpdatedAt()));
+                });
+    }
+
+    @Test
+    @DisplayName("외부 버전 충돌로 거부된 쓰기는 stale로 누적 집계된다.")
+    void staleWritesAreCounted() {
+        // given
+        PostEvent event = new PostEvent(1L, PostEvent.EventType.UPDATED, "제목", "내용", LocalDateTime.now());
+        when(postBulkIndexer.bulk(isNull(), anyList(), anyMap())).thenReturn(new BulkIndexResult(1, 1, List.of()));
+
+        // when
+        BulkIndexResult result = postIndexingService.index(List.of(event));
+
+        // then
+        assertThat(result.getStale()).isEqualTo(1);
+        assertThat(result.getSucceeded()).isZero();
+        assertThat(postIndexingService.getStaleWriteCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치가 크면 postId 기준으로 나누어 처리하고, 같은 게시글은 하나의 조각에만 포함된다.")
+    @SuppressWarnings("unchecked")
+    void largeBatchIsShardedByPostId() {
+        // given
+        List<PostEvent> events = List.of(
+                PostEvent.deletionOf(1L, LocalDateTime.now()),
+                PostEvent.deletionOf(2L, LocalDateTime.now()),
+                PostEvent.deletionOf(3L, LocalDateTime.now()),
+                PostEvent.deletionOf(4L, LocalDateTime.now())
+        );
+        when(indexingWorkerPool.shardsFor(4)).thenReturn(2);
+        when(indexingWorkerPool.submit(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<BulkIndexResult>>getArgument(0).get()));
+        when(postBulkIndexer.bulk(isNull(), anyList(), anyMap())).thenAnswer(invocation ->
+                new BulkIndexResult(invocation.<Map<Long, Long>>getArgument(2).size(), List.of()));
+
+        // when
+        BulkIndexResult result = postIndexingService.index(events);
+
+        // then
+        ArgumentCaptor<Map<Long, Long>> deletedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(postBulkIndexer, times(2)).bulk(isNull(), anyList(), deletedCaptor.capture());
+        List<Long> deletedIds = deletedCaptor.getAllValues().stream()
+                .flatMap(deletions -> deletions.keySet().stream())
+                .toList();
+        assertThat(deletedIds).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(result.getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("대상 인덱스를 지정하면, 별칭 대신 해당 인덱스로 bulk 요청을 보낸다.")
+    void indexIntoExplicitIndex() {
+        // given
+        PostEvent event = new PostEvent(1L, PostEvent.EventType.UPDATED, "제목", "내용", LocalDateTime.now());
+        when(postBulkIndexer.bulk(eq("posts_v2"), anyList(), anyMap())).thenReturn(new BulkIndexResult(1, List.of()));
+
+        // when
+        postIndexingService.index(List.of(event), "posts_v2");
+
+        // then
+        verify(postBulkIndexer).bulk(eq("posts_v2"), anyList(), anyMap());
+        verify(postBulkIndexer, never()).bulk(isNull(), anyList(), anyMap());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.domain.PostOutbox;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.metrics.LogSampler;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.repository.PostOutboxRepository;
+import com.example.blog_search_platform.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostOutboxRelayTest {
+
+    @InjectMocks
+    private PostOutboxRelay postOutboxRelay;
+
+    @Mock
+    private PostOutboxRepository postOutboxRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Spy
+    private PostEventCodec postEventCodec = new BinaryPostEventCodec();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private PostPipelineMetrics postPipelineMetrics = new PostPipelineMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private LogSampler logSampler = new LogSampler(Duration.ofSeconds(10));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postOutboxRelay, "batchSize", 3);
+        ReflectionTestUtils.setField(postOutboxRelay, "sendTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(postOutboxRelay, "retention", Duration.ofMinutes(10));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 행부터는 발행 완료로 표시하지 않아, 뒤의 행도 다음 배치에서 순서대로 다시 발행된다.")
+    @SuppressWarnings("unchecked")
+    void markSentStopsAtFirstFailedSend() {
+        // given
+        List<PostOutbox> batch = List.of(outbox(1L, 10L), outbox(2L, 20L), outbox(3L, 30L));
+        when(postOutboxRepository.findBySentAtIsNullOrderByIdAsc(any(Limit.class))).thenReturn(batch);
+        when(kafkaTemplate.send(eq(KafkaTopicConfig.POST_EVENTS), eq("10"), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(eq(KafkaTopicConfig.POST_EVENTS), eq("20"), any(byte[].class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        when(kafkaTemplate.send(eq(KafkaTopicConfig.POST_EVENTS), eq("30"), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // when
+        postOutboxRelay.relay();
+
+        // then
+        ArgumentCaptor<Collection<Long>> idsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(postOutboxRepository, times(1)).markSent(idsCaptor.capture(), any(LocalDateTime.class));
+        assertThat(idsCaptor.getValue()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("첫 행의 전송이 실패하면 아무 행도 발행 완료로 표시하지 않는다.")
+    @SuppressWarnings("unchecked")
+    void nothingIsMarkedWhenFirstSendFails() {
+        // given
+        when(postOutboxRepository.findBySentAtIsNullOrderByIdAsc(any(Limit.class)))
+                .thenReturn(List.of(outbox(1L, 10L), outbox(2L, 20L)));
+        when(kafkaTemplate.send(eq(KafkaTopicConfig.POST_EVENTS), any(String.class), any(byte[].class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // when
+        postOutboxRelay.relay();
+
+        // then
+        verify(postOutboxRepository, never()).markSent(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("purge는 보관 기간이 지난 시각을 기준으로, 발행 완료 시각이 그보다 이른 행만 삭제한다.")
+    void purgeDeletesSentRowsPastRetention() {
+        // given
+        when(postOutboxRepository.deleteSentBefore(any(LocalDateTime.class))).thenReturn(2);
+        LocalDateTime before = LocalDateTime.now().minusMinutes(10);
+
+        // when
+        postOutboxRelay.purge();
+
+        // then
+        LocalDateTime after = LocalDateTime.now().minusMinutes(10);
+        ArgumentCaptor<LocalDateTime> cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(postOutboxRepository).deleteSentBefore(cutoffCaptor.capture());
+        assertThat(cutoffCaptor.getValue()).isBetween(before, after);
+        verify(postOutboxRepository, never()).deleteAll();
+    }
+
+    private static PostOutbox outbox(Long id, Long postId) {
+        PostOutbox outbox = PostOutbox.builder().postId(postId).eventType(PostEvent.EventType.UPDATED).build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        ReflectionTestUtils.setField(outbox, "createdAt", LocalDateTime.now());
+        return outbox;
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.domain.ReconcileCheckpoint;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.dto.PostVersion;
+import com.example.blog_search_platform.repository.PostRepository;
+import com.example.blog_search_platform.repository.ReconcileCheckpointRepository;
+import com.example.blog_search_platform.repository.elasticsearch.PostVersionScanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostReconcilerTest {
+
+    @InjectMocks
+    private PostReconciler postReconciler;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ReconcileCheckpointRepository reconcileCheckpointRepository;
+
+    @Mock
+    private PostVersionScanRepository postVersionScanRepository;
+
+    @Mock
+    private PostIndexingService postIndexingService;
+
+    @Mock
+    private PostReindexService postReindexService;
+
+    @Mock
+    private PostSearchCache postSearchCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ReconcileCheckpoint checkpoint = new ReconcileCheckpoint("posts");
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(postReconciler, "chunkSize", 3);
+        ReflectionTestUtils.setField(postReconciler, "gracePeriod", Duration.ofSeconds(30));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(reconcileCheckpointRepository.findById("posts")).thenReturn(Optional.of(checkpoint));
+        lenient().when(reconcileCheckpointRepository.findWithLockByName("posts")).thenReturn(Optional.of(checkpoint));
+    }
+
+    @Test
+    @DisplayName("요약값이 같은 묶음은 게시글 단위로 비교하지 않고, 체크포인트만 다음 묶음으로 옮긴다.")
+    void matchingChunkAdvancesCheckpoint() {
+        // given
+        List<PostVersion> versions = List.of(new PostVersion(1L, 10L), new PostVersion(2L, 20L), new PostVersion(3L, 30L));
+        when(postRepository.findVersionsAfter(eq(0L), any(Limit.class))).thenReturn(versions);
+        when(postVersionScanRepository.findVersions(0L, 3L, 3)).thenReturn(versions);
+        when(postVersionScanRepository.findVersions(3L, 3L, 3)).thenReturn(List.of());
+
+        // when
+        postReconciler.reconcile();
+
+        // then
+        verify(postIndexingService, never()).index(anyList());
+        assertThat(checkpoint.getLastId()).isEqualTo(3L);
+        assertThat(postReconciler.getStatus().getDriftedChunks()).isZero();
+    }
+
+    @Test
+    @DisplayName("요약값이 다른 묶음은 누락/버전 불일치 게시글을 다시 색인하고, DB에 없는 문서는 삭제한다.")
+    @SuppressWarnings("unchecked")
+    void driftedChunkIsRepaired() {
+        // given
+        when(postRepository.findVersionsAfter(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(new PostVersion(1L, 10L), new PostVersion(2L, 20L)));
+        when(postVersionScanRepository.findVersions(0L, null, 3))
+                .thenReturn(List.of(new PostVersion(2L, 19L), new PostVersion(5L, 50L)));
+        when(postRepository.findAllById(any())).thenReturn(List.of());
+        when(postIndexingService.index(anyList())).thenReturn(new BulkIndexResult(3, List.of()));
+
+        // when
+        postReconciler.reconcile();
+
+        // then
+        ArgumentCaptor<List<PostEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(postIndexingService).index(eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue())
+                .extracting(PostEvent::getPostId, PostEvent::getEventType)
+                .containsExactly(
+                        tuple(1L, PostEvent.EventType.UPDATED),
+                        tuple(2L, PostEvent.EventType.UPDATED),
+                        tuple(5L, PostEvent.EventType.DELETED));
+        verify(postSearchCache).bumpGeneration();
+        assertThat(checkpoint.getLastId()).isZero();
+        assertThat(checkpoint.getCompletedPasses()).isEqualTo(1);
+        assertThat(postReconciler.getStatus().getReindexedPosts()).isEqualTo(2);
+        assertThat(postReconciler.getStatus().getDeletedPosts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("grace-period 안에 수정된 게시글은 인덱스와 버전이 달라도 어긋난 것으로 보지 않는다.")
+    void recentlyUpdatedPostIsNotDrift() {
+        // given
+        Long recentVersion = PostDocument.versionOf(LocalDateTime.now());
+        when(postRepository.findVersionsAfter(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(new PostVersion(1L, 10L), new PostVersion(2L, recentVersion)));
+        when(postVersionScanRepository.findVersions(0L, null, 3))
+                .thenReturn(List.of(new PostVersion(1L, 10L), new PostVersion(2L, 20L)));
+
+        // when
+        postReconciler.reconcile();
+
+        // then
+        verify(postIndexingService, never()).index(anyList());
+        assertThat(postReconciler.getStatus().getDriftedChunks()).isZero();
+        assertThat(checkpoint.getCompletedPasses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("점검하는 동안 다른 인스턴스가 체크포인트를 옮겼으면 덮어쓰지 않는다.")
+    void checkpointMovedByAnotherInstanceIsKept() {
+        // given
+        ReconcileCheckpoint moved = new ReconcileCheckpoint("posts");
+        moved.advance(9L);
+        when(reconcileCheckpointRepository.findWithLockByName("posts")).thenReturn(Optional.of(moved));
+        List<PostVersion> versions = List.of(new PostVersion(1L, 10L), new PostVersion(2L, 20L), new PostVersion(3L, 30L));
+        when(postRepository.findVersionsAfter(eq(0L), any(Limit.class))).thenReturn(versions);
+        when(postVersionScanRepository.findVersions(0L, 3L, 3)).thenReturn(versions);
+        when(postVersionScanRepository.findVersions(3L, 3L, 3)).thenReturn(List.of());
+
+        // when
+        postReconciler.reconcile();
+
+        // then
+        assertThat(moved.getLastId()).isEqualTo(9L);
+        assertThat(postReconciler.getCheckpointId()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB를 읽은 뒤 생성된 게시글의 문서는 삭제하지 않는다.")
+    void newlyCreatedPostIsNotDeleted() {
+        // given
+        Post created = mock(Post.class);
+        when(created.getId()).thenReturn(5L);
+        when(postRepository.findVersionsAfter(eq(0L), any(Limit.class))).thenReturn(List.of());
+        when(postVersionScanRepository.findVersions(0L, null, 3)).thenReturn(List.of(new PostVersion(5L, 50L)));
+        when(postRepository.findAllById(any())).thenReturn(List.of(created));
+
+        // when
+        postReconciler.reconcile();
+
+        // then
+        verify(postIndexingService, never()).index(anyList());
+        assertThat(postReconciler.getStatus().getDriftedChunks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 색인하지 못하면 예외가 발생해, 체크포인트가 옮겨지지 않는다.")
+    void failedRepairKeepsCheckpoint() {
+        // given
+        when(postRepository.findVersionsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(new PostVersion(1L, 10L)));
+        when(postVersionScanRepository.findVersions(anyLong(), any(), anyInt())).thenReturn(List.of());
+        when(postIndexingService.index(anyList())).thenReturn(new BulkIndexResult(1,
+                List.of(new BulkIndexResult.ItemFailure(1L, 503, "unavailable", "node down"))));
+
+        // when & then
+        assertThatThrownBy(() -> postReconciler.reconcile()).isInstanceOf(RuntimeException.class);
+        assertThat(checkpoint.getLastId()).isZero();
+        assertThat(checkpoint.getCompletedPasses()).isZero();
+    }
+
+    @Test
+    @DisplayName("재색인 중에는 점검하지 않는다.")
+    void skippedWhileReindexing() {
+        // given
+        when(postReindexService.isRunning()).thenReturn(true);
+
+        // when
+        postReconciler.reconcile();
+
+        // then
+        verifyNoInteractions(transactionTemplate, postRepository, postVersionScanRepository);
+    }
+
+    @Test
+    @DisplayName("요약값은 순서와 관계없고, 버전이 하나만 달라도 달라진다.")
+    void digestIsOrderIndependent() {
+        // given
+        List<PostVersion> versions = List.of(new PostVersion(1L, 10L), new PostVersion(2L, 20L));
+        List<PostVersion> reordered = List.of(new PostVersion(2L, 20L), new PostVersion(1L, 10L));
+        List<PostVersion> changed = List.of(new PostVersion(1L, 10L), new PostVersion(2L, 21L));
+
+        // when & then
+        assertThat(PostReconciler.digestOf(versions)).isEqualTo(PostReconciler.digestOf(reordered));
+        assertThat(PostReconciler.digestOf(versions)).isNotEqualTo(PostReconciler.digestOf(changed));
+    }
+}
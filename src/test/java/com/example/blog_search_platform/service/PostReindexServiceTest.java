@@ -0,0 +1,216 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.GetIndexResponse;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import co.elastic.clients.transport.endpoints.BooleanResponse;
+import co.elastic.clients.util.ObjectBuilder;
+import com.example.blog_search_platform.codec.BinaryPostEventCodec;
+import com.example.blog_search_platform.codec.PostEventCodec;
+import com.example.blog_search_platform.config.KafkaTopicConfig;
+import com.example.blog_search_platform.dto.BulkIndexResult;
+import com.example.blog_search_platform.dto.PostEvent;
+import com.example.blog_search_platform.dto.ReindexStatusResponse;
+import com.example.blog_search_platform.repository.PostRepository;
+import com.example.blog_search_platform.repository.elasticsearch.PostBulkIndexer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostReindexServiceTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition(KafkaTopicConfig.POST_EVENTS, 0);
+    private static final String TARGET_INDEX = "posts_v1";
+
+    @InjectMocks
+    private PostReindexService postReindexService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostBulkIndexer postBulkIndexer;
+
+    @Mock
+    private PostIndexingService postIndexingService;
+
+    @Mock
+    private PostSearchCache postSearchCache;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private ElasticsearchClient elasticsearchClient;
+
+    @Mock
+    private ConsumerFactory<String, byte[]> consumerFactory;
+
+    @Spy
+    private PostEventCodec postEventCodec = new BinaryPostEventCodec();
+
+    @Mock
+    private ElasticsearchIndicesClient indices;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(postReindexService, "chunkSize", 100);
+        ReflectionTestUtils.setField(postReindexService, "parallelism", 1);
+        ReflectionTestUtils.setField(postReindexService, "refreshInterval", "1s");
+        ReflectionTestUtils.setField(postReindexService, "replicas", "1");
+
+        when(elasticsearchClient.indices()).thenReturn(indices);
+        GetIndexResponse existingIndices = mock(GetIndexResponse.class);
+        when(existingIndices.result()).thenReturn(Map.of());
+        when(indices.get(any(Function.class))).thenReturn(existingIndices);
+        when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(mock(IndexOperations.class));
+        // 적재할 게시글이 없는 상태에서 catch-up 단계만 확인합니다.
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postReindexService.shutdown();
+    }
+
+    @Test
+    @DisplayName("catch-up 중 반영에 실패한 이벤트가 있으면, 별칭을 교체하지 않고 새 인덱스를 삭제한다.")
+    @SuppressWarnings("unchecked")
+    void catchUpFailureAbortsSwap() throws Exception {
+        // given
+        givenConsumers(consumerAt(0), consumerAt(1, new PostEvent(1L, PostEvent.EventType.UPDATED)));
+        when(postIndexingService.index(anyList(), eq(TARGET_INDEX))).thenReturn(new BulkIndexResult(1, List.of(
+                new BulkIndexResult.ItemFailure(1L, 400, "mapper_parsing_exception", "failed to parse field"))));
+
+        // when
+        ReindexStatusResponse status = runToCompletion();
+
+        // then
+        assertThat(status.getPhase()).isEqualTo("FAILED");
+        assertThat(status.getFailedPosts()).isEqualTo(1);
+        assertThat(status.getCaughtUpEvents()).isZero();
+        verify(indices, never()).updateAliases(any(Function.class));
+        verify(indices).delete(any(Function.class));
+        verify(postSearchCache, never()).bumpGeneration();
+    }
+
+    @Test
+    @DisplayName("'posts'가 별칭이 아닌 기존 실제 인덱스이면, 같은 _aliases 요청에서 그 인덱스를 삭제하고 별칭을 새 인덱스에 연결한다.")
+    @SuppressWarnings("unchecked")
+    void legacyConcreteIndexIsReplacedByAlias() throws Exception {
+        // given
+        givenConsumers(consumerAt(0), consumerAt(1, new PostEvent(1L, PostEvent.EventType.UPDATED)), consumerAt(1));
+        when(postIndexingService.index(anyList(), eq(TARGET_INDEX))).thenReturn(new BulkIndexResult(1, List.of()));
+        when(indices.existsAlias(any(Function.class))).thenReturn(new BooleanResponse(false));
+        when(indices.exists(any(Function.class))).thenReturn(new BooleanResponse(true));
+
+        // when
+        ReindexStatusResponse status = runToCompletion();
+
+        // then
+        assertThat(status.getPhase()).isEqualTo("COMPLETED");
+        assertThat(status.getCaughtUpEvents()).isEqualTo(1);
+        ArgumentCaptor<Function<UpdateAliasesRequest.Builder, ObjectBuilder<UpdateAliasesRequest>>> requestCaptor =
+                ArgumentCaptor.forClass(Function.class);
+        verify(indices).updateAliases(requestCaptor.capture());
+        List<Action> actions = requestCaptor.getValue().apply(new UpdateAliasesRequest.Builder()).build().actions();
+        assertThat(actions).anySatisfy(action -> {
+            assertThat(action.isRemoveIndex()).isTrue();
+            assertThat(action.removeIndex().index()).isEqualTo("posts");
+        });
+        assertThat(actions).anySatisfy(action -> {
+            assertThat(action.isAdd()).isTrue();
+            assertThat(action.add().index()).isEqualTo(TARGET_INDEX);
+            assertThat(action.add().alias()).isEqualTo("posts");
+        });
+        verify(indices, never()).delete(any(Function.class));
+        verify(postSearchCache).bumpGeneration();
+    }
+
+    @Test
+    @DisplayName("별칭 교체 후 catch-up에서 실패한 이벤트가 있으면, 새 인덱스는 유지하되 작업은 실패로 기록한다.")
+    @SuppressWarnings("unchecked")
+    void catchUpFailureAfterSwapIsReported() throws Exception {
+        // given
+        givenConsumers(consumerAt(0), consumerAt(0), consumerAt(1, new PostEvent(2L, PostEvent.EventType.UPDATED)));
+        when(postIndexingService.index(anyList(), eq(TARGET_INDEX))).thenReturn(new BulkIndexResult(1, List.of(
+                new BulkIndexResult.ItemFailure(2L, 503, "unavailable_shards_exception", "primary shard is not active"))));
+        when(indices.existsAlias(any(Function.class))).thenReturn(new BooleanResponse(false));
+        when(indices.exists(any(Function.class))).thenReturn(new BooleanResponse(false));
+
+        // when
+        ReindexStatusResponse status = runToCompletion();
+
+        // then
+        assertThat(status.getPhase()).isEqualTo("FAILED");
+        assertThat(status.getFailedPosts()).isEqualTo(1);
+        verify(indices).updateAliases(any(Function.class));
+        verify(indices, never()).delete(any(Function.class));
+    }
+
+    private ReindexStatusResponse runToCompletion() {
+        postReindexService.start();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !postReindexService.isRunning());
+        return postReindexService.getStatus();
+    }
+
+    @SafeVarargs
+    private void givenConsumers(MockConsumer<String, byte[]> first, MockConsumer<String, byte[]>... rest) {
+        when(consumerFactory.createConsumer(anyString(), anyString(), isNull(), any(Properties.class))).thenReturn(first, rest);
+    }
+
+    /**
+     * 끝 오프셋이 endOffset이고, 그 직전 오프셋들에 events가 쌓여 있는 post-events 컨슈머를 만듭니다.
+     */
+    private MockConsumer<String, byte[]> consumerAt(long endOffset, PostEvent... events) {
+        MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(KafkaTopicConfig.POST_EVENTS,
+                List.of(new PartitionInfo(KafkaTopicConfig.POST_EVENTS, 0, Node.noNode(), new Node[0], new Node[0])));
+        consumer.updateEndOffsets(Map.of(PARTITION, endOffset));
+        consumer.schedulePollTask(() -> {
+            long offset = endOffset - events.length;
+            for (PostEvent event : events) {
+                consumer.addRecord(new ConsumerRecord<>(KafkaTopicConfig.POST_EVENTS, 0, offset++,
+                        String.valueOf(event.getPostId()), postEventCodec.encode(event)));
+            }
+        });
+        return consumer;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.blog_search_platform.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchCacheTest {
+
+    @Test
+    @DisplayName("같은 검색 조건으로 다시 조회하면, 검색을 실행하지 않고 캐시된 결과를 반환한다.")
+    void cachedResultIsReturned() {
+        // given
+        PostSearchCache cache = new PostSearchCache(100, Duration.ofMinutes(5), Duration.ZERO, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get("key", () -> "결과" + loads.incrementAndGet());
+        String result = cache.get("key", () -> "결과" + loads.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo("결과1");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats().getHits()).isEqualTo(1);
+        assertThat(cache.getStats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("색인 세대가 바뀌고 max-staleness가 지나면, 캐시된 결과 대신 다시 검색한다.")
+    void bumpedGenerationInvalidatesResult() {
+        // given
+        PostSearchCache cache = new PostSearchCache(100, Duration.ofMinutes(5), Duration.ZERO, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("key", () -> "결과" + loads.incrementAndGet());
+
+        // when
+        cache.bumpGeneration();
+        String result = cache.get("key", () -> "결과" + loads.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo("결과2");
+        assertThat(cache.getStats().getStaleMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("색인 세대가 바뀌어도 max-staleness 안에서는 캐시된 결과를 계속 사용한다.")
+    void resultWithinStalenessBoundIsServed() {
+        // given
+        PostSearchCache cache = new PostSearchCache(100, Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("key", () -> "결과" + loads.incrementAndGet());
+
+        // when
+        cache.bumpGeneration();
+        String result = cache.get("key", () -> "결과" + loads.incrementAndGet());
+
+        // then
+        assertThat(result).isEqualTo("결과1");
+    }
+
+    @Test
+    @DisplayName("세대가 바뀐 직후 refresh 전에 조회한 결과는 새 세대로 저장되어도, 다음 조회에서 다시 검색한다.")
+    void resultLoadedBeforeRefreshIsNotTreatedAsCurrent() {
+        // given
+        PostSearchCache cache = new PostSearchCache(100, Duration.ofMinutes(5), Duration.ZERO, Duration.ofMinutes(1));
+        AtomicReference<String> index = new AtomicReference<>("변경 전");
+        cache.get("key", index::get);
+
+        // when
+        // 컨슈머가 bulk 색인 직후 세대를 올렸지만, 아직 refresh되지 않아 검색에는 변경 전 문서가 보입니다.
+        cache.bumpGeneration();
+        String beforeRefresh = cache.get("key", index::get);
+        index.set("변경 후");
+        String afterRefresh = cache.get("key", index::get);
+
+        // then
+        assertThat(beforeRefresh).isEqualTo("변경 전");
+        assertThat(afterRefresh).isEqualTo("변경 후");
+        assertThat(cache.getStats().getStaleMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백만 다른 검색어는 같은 캐시 키를 사용한다.")
+    void keywordIsNormalized() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 10);
+
+        // when
+        String key1 = PostSearchCache.keyOf("page", "  Spring   부트 ", pageable);
+        String key2 = PostSearchCache.keyOf("page", "spring 부트", pageable);
+
+        // then
+        assertThat(key1).isEqualTo(key2);
+        assertThat(key1).isNotEqualTo(PostSearchCache.keyOf("page", "spring 부트", PageRequest.of(1, 10)));
+    }
+}
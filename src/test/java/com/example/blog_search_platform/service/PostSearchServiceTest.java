@@ -0,0 +1,333 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.PostSearchCursorResponse;
+import com.example.blog_search_platform.dto.PostSearchSliceResponse;
+import com.example.blog_search_platform.exception.InvalidCursorException;
+import com.example.blog_search_platform.exception.SearchUnavailableException;
+import com.example.blog_search_platform.metrics.PostPipelineMetrics;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchServiceTest {
+
+    @InjectMocks
+    private PostSearchService postSearchService;
+
+    @Mock
+    private PostSearchQueryRepository postSearchQueryRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private PostSearchCache postSearchCache = new PostSearchCache(100, Duration.ofMinutes(5), Duration.ZERO, Duration.ZERO);
+
+    @Spy
+    private SearchSingleFlight searchSingleFlight = new SearchSingleFlight(Duration.ofSeconds(1));
+
+    @Spy
+    private SearchGuard searchGuard = new SearchGuard(10, 50, Duration.ofSeconds(2), 10, 5, Duration.ofSeconds(10));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private PostPipelineMetrics postPipelineMetrics = new PostPipelineMetrics(meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postSearchService, "maxCursorSize", 100);
+        ReflectionTestUtils.setField(postSearchService, "pitKeepAlive", Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("커서 검색은 size + 1건을 조회해, 다음 페이지가 있으면 마지막 문서의 정렬 값으로 커서를 만든다.")
+    void cursorSearchReturnsNextCursor() {
+        // given
+        SearchResponse<PostDocument> firstPage = searchResponse(hit(1L, 3.0), hit(2L, 2.0), hit(3L, 1.0));
+        when(postSearchQueryRepository.searchAfter(eq("검색어"), eq(3), isNull(), isNull(), any(), eq(false))).thenReturn(firstPage);
+        SearchResponse<PostDocument> secondPage = searchResponse(hit(3L, 1.0));
+        when(postSearchQueryRepository.searchAfter(eq("검색어"), eq(3), eq(List.of(2.0, 2)), isNull(), any(), eq(false))).thenReturn(secondPage);
+
+        // when
+        PostSearchCursorResponse first = postSearchService.searchByCursor("검색어", null, 2, false, false);
+        PostSearchCursorResponse second = postSearchService.searchByCursor("검색어", first.getNextCursor(), 2, false, false);
+
+        // then
+        assertThat(first.getContent()).extracting("id").containsExactly(1L, 2L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).extracting("id").containsExactly(3L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("point-in-time 모드는 첫 페이지에서 PIT를 열고, 마지막 페이지에서 PIT를 닫는다.")
+    void pointInTimeIsOpenedAndClosed() {
+        // given
+        when(postSearchQueryRepository.openPointInTime(any())).thenReturn("pit-1");
+        SearchResponse<PostDocument> onlyPage = searchResponse(hit(1L, 1.0));
+        when(onlyPage.pitId()).thenReturn("pit-2");
+        when(postSearchQueryRepository.searchAfter(eq("검색어"), eq(11), isNull(), eq("pit-1"), any(), eq(false))).thenReturn(onlyPage);
+
+        // when
+        PostSearchCursorResponse response = postSearchService.searchByCursor("검색어", null, 10, true, false);
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        verify(postSearchQueryRepository).closePointInTime("pit-2");
+    }
+
+    @Test
+    @DisplayName("마지막 페이지에서 PIT 닫기에 실패해도, 검색 결과는 그대로 반환한다.")
+    void lastPageIsReturnedWhenPitCloseFails() {
+        // given
+        when(postSearchQueryRepository.openPointInTime(any())).thenReturn("pit-1");
+        SearchResponse<PostDocument> onlyPage = searchResponse(hit(1L, 1.0));
+        when(postSearchQueryRepository.searchAfter(eq("검색어"), eq(11), isNull(), eq("pit-1"), any(), eq(false))).thenReturn(onlyPage);
+        doThrow(new IllegalStateException("close failed")).when(postSearchQueryRepository).closePointInTime("pit-1");
+
+        // when
+        PostSearchCursorResponse response = postSearchService.searchByCursor("검색어", null, 10, true, false);
+
+        // then
+        assertThat(response.getContent()).extracting("id").containsExactly(1L);
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 PIT를 열지 않고 바로 거절한다.")
+    void pointInTimeIsNotOpenedWhenCircuitIsOpen() {
+        // given
+        searchGuard = new SearchGuard(10, 50, Duration.ofSeconds(2), 2, 2, Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(postSearchService, "searchGuard", searchGuard);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> searchGuard.execute(() -> {
+                throw new UncheckedIOException(new ConnectException("Connection refused"));
+            })).isInstanceOf(SearchUnavailableException.class);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> postSearchService.searchByCursor("검색어", null, 10, true, false))
+                .isInstanceOf(SearchUnavailableException.class);
+        verify(postSearchQueryRepository, never()).openPointInTime(any());
+    }
+
+    @Test
+    @DisplayName("PIT를 연 직후 첫 페이지 검색이 실패하면, 연 PIT를 닫고 검색 실패를 그대로 알린다.")
+    void pointInTimeIsClosedWhenFirstPageFails() {
+        // given
+        when(postSearchQueryRepository.openPointInTime(any())).thenReturn("pit-1");
+        when(postSearchQueryRepository.searchAfter(eq("검색어"), eq(11), isNull(), eq("pit-1"), any(), eq(false)))
+                .thenThrow(new IllegalStateException("search_phase_execution_exception"));
+
+        // when & then
+        assertThatThrownBy(() -> postSearchService.searchByCursor("검색어", null, 10, true, false))
+                .isInstanceOf(SearchUnavailableException.class)
+                .hasRootCauseMessage("search_phase_execution_exception");
+        verify(postSearchQueryRepository).closePointInTime("pit-1");
+    }
+
+    @Test
+    @DisplayName("다른 검색어로 만든 커서를 사용하면 InvalidCursorException이 발생한다.")
+    void cursorForOtherKeywordIsRejected() {
+        // given
+        SearchResponse<PostDocument> firstPage = searchResponse(hit(1L, 2.0), hit(2L, 1.0));
+        when(postSearchQueryRepository.searchAfter(eq("검색어"), eq(2), isNull(), isNull(), any(), eq(false))).thenReturn(firstPage);
+        String cursor = postSearchService.searchByCursor("검색어", null, 1, false, false).getNextCursor();
+
+        // when & then
+        assertThatThrownBy(() -> postSearchService.searchByCursor("다른 검색어", cursor, 1, false, false))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> postSearchService.searchByCursor("검색어", "not-a-cursor", 1, false, false))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Slice 검색은 현재 페이지 끝 + 1건까지만 세어 다음 페이지 존재 여부를 판단하고, 전체 건수는 포함하지 않는다.")
+    void sliceSearchCountsOnlyPastPageEnd() {
+        // given
+        PageRequest pageable = PageRequest.of(1, 2);
+        SearchResponse<PostDocument> searchResponse = searchResponse(hit(3L, 1.0), hit(4L, 1.0));
+        when(searchResponse.hits().total()).thenReturn(totalHits(5L, TotalHitsRelation.Eq));
+        when(postSearchQueryRepository.searchSlice("검색어", pageable, 5, false)).thenReturn(searchResponse);
+
+        // when
+        PostSearchSliceResponse response = postSearchService.searchSlice("검색어", pageable, 0, false);
+
+        // then
+        assertThat(response.getContent()).extracting("id").containsExactly(3L, 4L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getTotalHits()).isNull();
+        assertThat(response.getTotalHitsRelation()).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 건수 상한을 지정하면, 상한까지 센 건수와 근사 여부를 함께 반환한다.")
+    void sliceSearchReturnsCappedTotal() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        SearchResponse<PostDocument> searchResponse = searchResponse(hit(1L, 2.0), hit(2L, 1.0));
+        when(searchResponse.hits().total()).thenReturn(totalHits(1000L, TotalHitsRelation.Gte));
+        when(postSearchQueryRepository.searchSlice("검색어", pageable, 1000, false)).thenReturn(searchResponse);
+
+        // when
+        PostSearchSliceResponse response = postSearchService.searchSlice("검색어", pageable, 1000, false);
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getTotalHits()).isEqualTo(1000L);
+        assertThat(response.getTotalHitsRelation()).isEqualTo("gte");
+    }
+
+    @Test
+    @DisplayName("본문 전체를 요청하지 않으면, 본문 대신 하이라이트된 본문 요약만 반환한다.")
+    @SuppressWarnings("unchecked")
+    void searchReturnsSnippetInsteadOfContents() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 10);
+        Hit<PostDocument> hit = mock(Hit.class);
+        when(hit.source()).thenReturn(PostDocument.builder().id(1L).title("제목").build());
+        when(hit.highlight()).thenReturn(Map.of("contents", List.of("맛있는 <em>자바</em> 카레")));
+        SearchResponse<PostDocument> searchResponse = searchResponse(hit);
+        when(searchResponse.hits().total()).thenReturn(totalHits(1L, TotalHitsRelation.Eq));
+        when(postSearchQueryRepository.searchSlice("자바", pageable, 11, false)).thenReturn(searchResponse);
+
+        // when
+        PostSearchSliceResponse response = postSearchService.searchSlice("자바", pageable, 0, false);
+
+        // then
+        assertThat(response.getContent()).singleElement()
+                .satisfies(result -> {
+                    assertThat(result.getContents()).isNull();
+                    assertThat(result.getSnippet()).isEqualTo("맛있는 <em>자바</em> 카레");
+                });
+    }
+
+    @Test
+    @DisplayName("같은 검색을 반복하면, 첫 요청은 캐시 미스로 두 번째 요청은 캐시 적중으로 검색 지연이 기록된다.")
+    void searchLatencyIsRecordedByCacheOutcome() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(postSearchQueryRepository.searchSlice("검색어", pageable, 3, false)).thenReturn(searchResponse(hit(1L, 1.0)));
+
+        // when
+        postSearchService.searchSlice("검색어", pageable, 0, false);
+        postSearchService.searchSlice("검색어", pageable, 0, false);
+
+        // then
+        verify(postSearchQueryRepository, times(1)).searchSlice("검색어", pageable, 3, false);
+        assertThat(meterRegistry.get("post.search").tags("type", "slice", "cache", "miss", "results", "1-10").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("post.search").tags("type", "slice", "cache", "hit", "results", "1-10").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 제한 시간에 걸린(timed_out) 부분 결과는 응답에만 쓰고 캐시에 저장하지 않아, 다음 요청은 다시 검색한다.")
+    void partialResultIsNotCached() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        SearchResponse<PostDocument> partialResponse = searchResponse(hit(1L, 1.0));
+        when(partialResponse.timedOut()).thenReturn(true);
+        SearchResponse<PostDocument> completeResponse = searchResponse(hit(1L, 2.0), hit(2L, 1.0));
+        when(postSearchQueryRepository.searchSlice("검색어", pageable, 3, false)).thenReturn(partialResponse, completeResponse);
+
+        // when
+        PostSearchSliceResponse partial = postSearchService.searchSlice("검색어", pageable, 0, false);
+        PostSearchSliceResponse complete = postSearchService.searchSlice("검색어", pageable, 0, false);
+        PostSearchSliceResponse cached = postSearchService.searchSlice("검색어", pageable, 0, false);
+
+        // then
+        assertThat(partial.getContent()).extracting("id").containsExactly(1L);
+        assertThat(complete.getContent()).extracting("id").containsExactly(1L, 2L);
+        assertThat(cached.getContent()).extracting("id").containsExactly(1L, 2L);
+        verify(postSearchQueryRepository, times(2)).searchSlice("검색어", pageable, 3, false);
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 검색이 실패하면, 캐시에 남아 있는 이전 결과로 대신 응답한다.")
+    void searchFallsBackToStaleResult() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(postSearchQueryRepository.searchSlice("검색어", pageable, 3, false))
+                .thenReturn(searchResponse(hit(1L, 1.0)))
+                .thenThrow(new UncheckedIOException(new ConnectException("Connection refused")));
+        postSearchService.searchSlice("검색어", pageable, 0, false);
+        // 색인이 변경되어 캐시된 결과가 더 이상 신선하지 않은 상태입니다.
+        postSearchCache.bumpGeneration();
+
+        // when
+        PostSearchSliceResponse response = postSearchService.searchSlice("검색어", pageable, 0, false);
+
+        // then
+        verify(postSearchQueryRepository, times(2)).searchSlice("검색어", pageable, 3, false);
+        assertThat(response.getContent()).extracting("id").containsExactly(1L);
+        assertThat(meterRegistry.get("post.search").tags("type", "slice", "cache", "stale").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 검색이 실패하고 이전 결과도 없으면, SearchUnavailableException이 발생한다.")
+    void searchWithoutStaleResultFails() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(postSearchQueryRepository.searchSlice("검색어", pageable, 3, false))
+                .thenThrow(new UncheckedIOException(new ConnectException("Connection refused")));
+
+        // when & then
+        assertThatThrownBy(() -> postSearchService.searchSlice("검색어", pageable, 0, false))
+                .isInstanceOf(SearchUnavailableException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Hit<PostDocument> hit(Long id, double score) {
+        Hit<PostDocument> hit = mock(Hit.class);
+        lenient().when(hit.source()).thenReturn(PostDocument.builder().id(id).title("제목" + id).contents("내용" + id).build());
+        lenient().when(hit.sort()).thenReturn(List.of(FieldValue.of(score), FieldValue.of(id)));
+        return hit;
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private SearchResponse<PostDocument> searchResponse(Hit<PostDocument>... hits) {
+        HitsMetadata<PostDocument> metadata = mock(HitsMetadata.class);
+        lenient().when(metadata.hits()).thenReturn(List.of(hits));
+        SearchResponse<PostDocument> response = mock(SearchResponse.class);
+        lenient().when(response.hits()).thenReturn(metadata);
+        return response;
+    }
+
+    private TotalHits totalHits(long value, TotalHitsRelation relation) {
+        return TotalHits.of(total -> total.value(value).relation(relation));
+    }
+}
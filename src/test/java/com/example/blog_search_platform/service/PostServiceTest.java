@@ -1,23 +1,35 @@
 package com.example.blog_search_platform.service;
 
 import com.example.blog_search_platform.domain.Post;
+import com.example.blog_search_platform.domain.PostOutbox;
 import com.example.blog_search_platform.dto.PostCreateRequest;
 import com.example.blog_search_platform.dto.PostResponse;
 import com.example.blog_search_platform.dto.PostUpdateRequest;
 import com.example.blog_search_platform.exception.PostNotFoundException;
+import com.example.blog_search_platform.repository.PostOutboxRepository;
 import com.example.blog_search_platform.repository.PostRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +42,15 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostOutboxRepository postOutboxRepository;
+
+    @Spy
+    private PostCache postCache = new PostCache(DataSize.ofMegabytes(1), Duration.ofMinutes(10));
+
+    @Mock
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("게시글 생성 요청이 들어오면, 게시글을 성공적으로 생성한다.")
     void createPostSuccess() {
@@ -51,6 +72,34 @@ class PostServiceTest {
         assertThat(response.getTitle()).isEqualTo("테스트 제목");
         assertThat(response.getContents()).isEqualTo("테스트 내용");
         verify(postRepository).save(any(Post.class));
+        verify(postOutboxRepository).save(any(PostOutbox.class));
+    }
+
+    @Test
+    @DisplayName("여러 게시글을 저장하면, INSERT를 내보낸 뒤 영속성 컨텍스트를 비워 다음 묶음에 엔티티가 쌓이지 않는다.")
+    void createPostsClearsPersistenceContext() {
+        // given
+        List<PostCreateRequest> requests = List.of(
+                PostCreateRequest.builder().title("제목1").contents("내용1").build(),
+                PostCreateRequest.builder().title("제목2").contents("내용2").build());
+        when(postRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            for (int i = 0; i < posts.size(); i++) {
+                ReflectionTestUtils.setField(posts.get(i), "id", 101L + i);
+            }
+            return posts;
+        });
+
+        // when
+        List<Long> ids = postService.createPosts(requests);
+
+        // then
+        assertThat(ids).containsExactly(101L, 102L);
+        InOrder inOrder = inOrder(postRepository, postOutboxRepository, entityManager);
+        inOrder.verify(postRepository).saveAll(anyList());
+        inOrder.verify(postOutboxRepository).saveAll(anyList());
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
     }
 
     @Test
@@ -73,6 +122,43 @@ class PostServiceTest {
         verify(postRepository).findById(postId);
     }
 
+    @Test
+    @DisplayName("같은 게시글을 다시 조회하면, DB를 조회하지 않고 캐시된 결과를 반환한다.")
+    void getPostIsCached() {
+        // given
+        long postId = 1L;
+        when(postRepository.findById(anyLong())).thenReturn(Optional.of(Post.builder()
+                .title("조회용 제목")
+                .contents("조회용 내용")
+                .build()));
+
+        // when
+        postService.getPost(postId);
+        PostResponse response = postService.getPost(postId);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("조회용 제목");
+        verify(postRepository, times(1)).findById(postId);
+    }
+
+    @Test
+    @DisplayName("게시글을 수정하면 캐시가 비워져, 다음 조회는 DB에서 다시 읽는다.")
+    void updatePostInvalidatesCache() {
+        // given
+        long postId = 1L;
+        Post post = Post.builder().title("원래 제목").contents("원래 내용").build();
+        when(postRepository.findById(anyLong())).thenReturn(Optional.of(post));
+        postService.getPost(postId);
+
+        // when
+        postService.updatePost(postId, PostUpdateRequest.builder().title("수정된 제목").build());
+        PostResponse response = postService.getPost(postId);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("수정된 제목");
+        verify(postRepository, times(3)).findById(postId);
+    }
+
     @Test
     @DisplayName("존재하지 않는 ID로 게시글을 조회하면, PostNotFoundException 예외가 발생한다.")
     void getPostFail_whenPostNotFound() {
@@ -112,6 +198,27 @@ class PostServiceTest {
         verify(postRepository).findById(postId);
     }
 
+    @Test
+    @DisplayName("수정 응답은 flush로 갱신된 updatedAt을 담는다.")
+    void updatePostResponseHasFlushedUpdatedAt() {
+        // given
+        long postId = 1L;
+        Post existingPost = Post.builder().title("원본 제목").contents("원본 내용").build();
+        LocalDateTime flushedAt = LocalDateTime.of(2026, 10, 18, 12, 0);
+        when(postRepository.findById(postId)).thenReturn(Optional.of(existingPost));
+        doAnswer(invocation -> {
+            // flush 시점에 실행되는 @PreUpdate를 흉내 냅니다.
+            ReflectionTestUtils.setField(existingPost, "updatedAt", flushedAt);
+            return null;
+        }).when(postRepository).flush();
+
+        // when
+        PostResponse response = postService.updatePost(postId, PostUpdateRequest.builder().title("수정된 제목").build());
+
+        // then
+        assertThat(response.getUpdatedAt()).isEqualTo(flushedAt);
+    }
+
     @Test
     @DisplayName("존재하지 않는 게시글을 수정하려고 하면, PostNotFoundException 예외가 발생한다.")
     void updatePostFail_whenPostNotFound() {
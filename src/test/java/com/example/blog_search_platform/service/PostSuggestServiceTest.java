@@ -0,0 +1,111 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import com.example.blog_search_platform.document.PostDocument;
+import com.example.blog_search_platform.dto.PostSuggestionResponse;
+import com.example.blog_search_platform.exception.SearchTimeoutException;
+import com.example.blog_search_platform.repository.elasticsearch.PostSearchQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostSuggestServiceTest {
+
+    @Mock
+    private PostSearchQueryRepository postSearchQueryRepository;
+
+    private PostSuggestService postSuggestService;
+
+    @BeforeEach
+    void setUp() {
+        postSuggestService = new PostSuggestService(postSearchQueryRepository, 100, Duration.ofSeconds(30), Duration.ofMillis(50), 10);
+    }
+
+    @Test
+    @DisplayName("같은 접두어를 다시 입력하면, Elasticsearch를 조회하지 않고 캐시된 후보를 반환한다.")
+    @SuppressWarnings("unchecked")
+    void hotPrefixIsCached() {
+        // given
+        Hit<PostDocument> hit = mock(Hit.class);
+        when(hit.source()).thenReturn(PostDocument.builder().id(2L).title("스프링부트 기초").build());
+        HitsMetadata<PostDocument> metadata = mock(HitsMetadata.class);
+        when(metadata.hits()).thenReturn(List.of(hit));
+        SearchResponse<PostDocument> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(metadata);
+        when(postSearchQueryRepository.suggest(eq("스프"), eq(5), any())).thenReturn(response);
+
+        // when
+        postSuggestService.suggest("스프", 5);
+        List<PostSuggestionResponse> suggestions = postSuggestService.suggest(" 스프 ", 5);
+
+        // then
+        assertThat(suggestions).extracting("title").containsExactly("스프링부트 기초");
+        verify(postSearchQueryRepository, times(1)).suggest(anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("지연 시간 상한에 걸린 부분 결과(timed_out)는 반환하되 캐시하지 않아, 다음 입력에서 다시 조회한다.")
+    @SuppressWarnings("unchecked")
+    void timedOutResultIsNotCached() {
+        // given
+        Hit<PostDocument> hit = mock(Hit.class);
+        when(hit.source()).thenReturn(PostDocument.builder().id(2L).title("스프링부트 기초").build());
+        HitsMetadata<PostDocument> metadata = mock(HitsMetadata.class);
+        when(metadata.hits()).thenReturn(List.of(hit));
+        SearchResponse<PostDocument> response = mock(SearchResponse.class);
+        when(response.hits()).thenReturn(metadata);
+        when(response.timedOut()).thenReturn(true);
+        when(postSearchQueryRepository.suggest(eq("스프"), eq(5), any())).thenReturn(response);
+
+        // when
+        List<PostSuggestionResponse> first = postSuggestService.suggest("스프", 5);
+        postSuggestService.suggest("스프", 5);
+
+        // then
+        assertThat(first).extracting("title").containsExactly("스프링부트 기초");
+        verify(postSearchQueryRepository, times(2)).suggest(anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Elasticsearch 조회에 실패하면 빈 목록을 반환하고, 실패한 결과는 캐시하지 않는다.")
+    void failureReturnsEmptyAndIsNotCached() {
+        // given
+        when(postSearchQueryRepository.suggest(anyString(), anyInt(), any()))
+                .thenThrow(new SearchTimeoutException("검색 응답 대기 시간이 초과되었습니다."));
+
+        // when
+        List<PostSuggestionResponse> first = postSuggestService.suggest("스프", 5);
+        List<PostSuggestionResponse> second = postSuggestService.suggest("스프", 5);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(postSearchQueryRepository, times(2)).suggest(anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 Elasticsearch를 조회하지 않는다.")
+    void blankPrefixIsIgnored() {
+        // when
+        List<PostSuggestionResponse> suggestions = postSuggestService.suggest("   ", 5);
+
+        // then
+        assertThat(suggestions).isEmpty();
+        verifyNoInteractions(postSearchQueryRepository);
+    }
+}
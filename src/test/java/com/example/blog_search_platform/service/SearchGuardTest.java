@@ -0,0 +1,100 @@
+package com.example.blog_search_platform.service;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import com.example.blog_search_platform.exception.SearchUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchGuardTest {
+
+    @Test
+    @DisplayName("실패 비율이 임계값을 넘으면 회로가 열리고, 이후 요청은 Elasticsearch를 호출하지 않고 바로 거절된다.")
+    void circuitOpensAfterFailures() {
+        // given
+        SearchGuard searchGuard = new SearchGuard(10, 50, Duration.ofSeconds(2), 4, 4, Duration.ofSeconds(30));
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> searchGuard.execute(() -> {
+                throw new UncheckedIOException(new ConnectException("Connection refused"));
+            })).isInstanceOf(SearchUnavailableException.class);
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThat(searchGuard.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> searchGuard.execute(calls::incrementAndGet))
+                .isInstanceOfSatisfying(SearchUnavailableException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(30));
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("동시에 실행 중인 검색이 상한에 도달하면, 기다리지 않고 바로 거절된다.")
+    void bulkheadRejectsWhenFull() {
+        // given
+        SearchGuard searchGuard = new SearchGuard(1, 50, Duration.ofSeconds(2), 10, 10, Duration.ofSeconds(30));
+        CompletableFuture<String> running = new CompletableFuture<>();
+        CompletableFuture<String> first = searchGuard.executeAsync(() -> running);
+
+        // when
+        CompletableFuture<String> second = searchGuard.executeAsync(() -> CompletableFuture.completedFuture("결과"));
+
+        // then
+        assertThatThrownBy(second::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(SearchUnavailableException.class);
+        running.complete("결과");
+        assertThat(first.join()).isEqualTo("결과");
+        assertThat(searchGuard.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Elasticsearch가 요청을 거부한 오류(4xx)는 실패로 세지 않고, 예외를 그대로 던진다.")
+    void clientErrorIsPassedThroughWithoutOpeningCircuit() {
+        // given
+        SearchGuard searchGuard = new SearchGuard(10, 50, Duration.ofSeconds(2), 4, 4, Duration.ofSeconds(30));
+        ElasticsearchException rejected = elasticsearchException(400, "parsing_exception");
+
+        // when & then
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> searchGuard.execute(() -> {
+                throw rejected;
+            })).isSameAs(rejected);
+        }
+        assertThat(searchGuard.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Elasticsearch의 5xx와 429 응답은 실패로 세어 회로를 연다.")
+    void serverErrorOpensCircuit() {
+        // given
+        SearchGuard searchGuard = new SearchGuard(10, 50, Duration.ofSeconds(2), 4, 4, Duration.ofSeconds(30));
+
+        // when
+        for (int status : new int[]{500, 503, 429, 429}) {
+            assertThatThrownBy(() -> searchGuard.execute(() -> {
+                throw elasticsearchException(status, "es_rejected_execution_exception");
+            })).isInstanceOf(SearchUnavailableException.class);
+        }
+
+        // then
+        assertThat(searchGuard.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private ElasticsearchException elasticsearchException(int status, String type) {
+        return new ElasticsearchException("search", ErrorResponse.of(response -> response
+                .status(status)
+                .error(error -> error.type(type).reason(type))));
+    }
+}
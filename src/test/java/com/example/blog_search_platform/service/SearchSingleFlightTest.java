@@ -0,0 +1,94 @@
+package com.example.blog_search_platform.service;
+
+import com.example.blog_search_platform.exception.SearchTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchSingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키의 호출이 진행 중이면, 새 요청은 검색을 실행하지 않고 그 결과를 함께 받는다.")
+    void concurrentCallsShareResult() throws Exception {
+        // given
+        SearchSingleFlight singleFlight = new SearchSingleFlight(Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "결과";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return "다른 결과";
+        }));
+        while (singleFlight.getSharedCount() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("결과");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("결과");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("호출이 끝난 뒤에 들어온 요청은 이전 결과를 재사용하지 않고 다시 검색한다.")
+    void completedCallIsNotReused() {
+        // given
+        SearchSingleFlight singleFlight = new SearchSingleFlight(Duration.ofSeconds(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        singleFlight.execute("key", calls::incrementAndGet);
+        Integer second = singleFlight.execute("key", calls::incrementAndGet);
+
+        // then
+        assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("진행 중인 호출의 결과를 제한 시간 안에 받지 못하면 SearchTimeoutException이 발생한다.")
+    void followerTimesOut() throws Exception {
+        // given
+        SearchSingleFlight singleFlight = new SearchSingleFlight(Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            return "결과";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> "다른 결과"))
+                .isInstanceOf(SearchTimeoutException.class);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("결과");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}